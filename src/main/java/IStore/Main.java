@@ -1,6 +1,8 @@
 package IStore;
 
-import IStore.dao.DatabaseManager;
+import IStore.dao.DAOFactory;
+import IStore.service.StoreService;
+import IStore.util.PasswordHasher;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -10,9 +12,14 @@ import javafx.stage.Stage;
 public class Main extends Application {
 
     @Override
-    public void start(Stage primaryStage) throws Exception {
-        DatabaseManager.getInstance();
+    public void init() {
+        // Connexion et migration du schéma hors du thread JavaFX
+        DAOFactory.getInstance();
+        new StoreService().resumePendingDeletions();
+    }
 
+    @Override
+    public void start(Stage primaryStage) throws Exception {
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/IStore/view/login.fxml"));
         Parent root = loader.load();
 
@@ -27,7 +34,8 @@ public class Main extends Application {
 
     @Override
     public void stop() {
-        DatabaseManager.getInstance().closeConnection();
+        System.out.println("Hachage des mots de passe: " + PasswordHasher.shared().getStats());
+        DAOFactory.getInstance().close();
     }
 
     public static void main(String[] args) {
@@ -1,16 +1,20 @@
 package IStore.controller;
 
 import IStore.model.Store;
-import IStore.model.User;
+import IStore.model.UserSummary;
 import IStore.service.StoreService;
-import IStore.service.UserService;
 import IStore.util.AlertUtil;
+import IStore.util.TaskRunner;
+import javafx.animation.PauseTransition;
+import javafx.beans.binding.BooleanBinding;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TextField;
 import javafx.stage.Stage;
-
-import java.util.List;
+import javafx.util.Duration;
 
 /**
  * Contrôleur pour ajouter un employé à un magasin.
@@ -20,22 +24,44 @@ import java.util.List;
  */
 public class AddEmployeeController {
 
-    @FXML private ListView<User> usersListView;
+    @FXML private ListView<UserSummary> usersListView;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private TextField searchField;
+    @FXML private Button moreButton;
+
+    private static final int PAGE_SIZE = 50;
+    private static final Duration SEARCH_DELAY = Duration.millis(250);
 
     private Store currentStore;
     private Runnable onComplete;
-    private final UserService userService = new UserService();
+    private String nextCursor;
     private final StoreService storeService = new StoreService();
+    private final TaskRunner tasks = new TaskRunner();
+    /** Recherches, annulées dès que la saisie change */
+    private final TaskRunner searches = new TaskRunner();
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
+        BooleanBinding busy = tasks.busyProperty().or(searches.busyProperty());
+        loadingIndicator.visibleProperty().bind(busy);
+        loadingIndicator.managedProperty().bind(busy);
+        tasks.cancelOnLeave(usersListView);
+        searches.cancelOnLeave(usersListView);
+
+        moreButton.managedProperty().bind(moreButton.visibleProperty());
+        moreButton.setVisible(false);
+        moreButton.disableProperty().bind(searches.busyProperty());
+        searchDelay.setOnFinished(event -> loadUsers());
+        searchField.textProperty().addListener((obs, oldText, text) -> searchDelay.playFromStart());
+
         // Configurer l'affichage de la liste
         usersListView.setCellFactory(lv -> new ListCell<>() {
             @Override
-            protected void updateItem(User user, boolean empty) {
+            protected void updateItem(UserSummary user, boolean empty) {
                 super.updateItem(user, empty);
                 if (empty || user == null) {
                     setText(null);
@@ -62,20 +88,35 @@ public class AddEmployeeController {
     }
 
     /**
-     * Charge les utilisateurs qui ne sont pas encore assignés au magasin
+     * Charge la première page des utilisateurs non assignés au magasin correspondant à la saisie
      */
     private void loadUsers() {
-        List<User> allUsers = userService.getAllUsers();
-        List<User> storeEmployees = storeService.getStoreEmployees(currentStore.getId());
+        searchDelay.stop();
+        searches.cancelAll();
+        usersListView.getItems().clear();
+        nextCursor = null;
+        fetchPage();
+    }
 
-        // Filtrer pour ne montrer que les utilisateurs non assignés
-        List<User> availableUsers = allUsers.stream()
-            .filter(user -> storeEmployees.stream()
-                .noneMatch(emp -> emp.getId() == user.getId()))
-            .toList();
+    /**
+     * Ajoute la page suivante des résultats
+     */
+    @FXML
+    private void handleMore() {
+        if (nextCursor != null) {
+            fetchPage();
+        }
+    }
 
-        usersListView.getItems().clear();
-        usersListView.getItems().addAll(availableUsers);
+    private void fetchPage() {
+        int storeId = currentStore.getId();
+        String search = searchField.getText();
+        String cursor = nextCursor;
+        searches.run(() -> storeService.findAvailableEmployees(storeId, search, cursor, PAGE_SIZE), page -> {
+            usersListView.getItems().addAll(page.getItems());
+            nextCursor = page.getNextCursor();
+            moreButton.setVisible(page.hasNext());
+        });
     }
 
     /**
@@ -83,24 +124,24 @@ public class AddEmployeeController {
      */
     @FXML
     private void handleAdd() {
-        User selectedUser = usersListView.getSelectionModel().getSelectedItem();
+        UserSummary selectedUser = usersListView.getSelectionModel().getSelectedItem();
         if (selectedUser == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un utilisateur");
             return;
         }
 
-        StoreService.ServiceResult result = storeService.addEmployeeToStore(
-            selectedUser.getId(), currentStore.getId());
-
-        if (result.isSuccess()) {
-            AlertUtil.showSuccess(result.getMessage());
-            if (onComplete != null) {
-                onComplete.run();
+        int storeId = currentStore.getId();
+        tasks.run(() -> storeService.addEmployeeToStore(selectedUser.getId(), storeId), result -> {
+            if (result.isSuccess()) {
+                AlertUtil.showSuccess(result.getMessage());
+                if (onComplete != null) {
+                    onComplete.run();
+                }
+                closeDialog();
+            } else {
+                AlertUtil.showError("Erreur", result.getMessage());
             }
-            closeDialog();
-        } else {
-            AlertUtil.showError("Erreur", result.getMessage());
-        }
+        });
     }
 
     /**
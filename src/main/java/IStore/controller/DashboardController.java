@@ -6,6 +6,7 @@ import IStore.service.AuthService;
 import IStore.service.StoreService;
 import IStore.util.AlertUtil;
 import IStore.util.SessionManager;
+import IStore.util.TaskRunner;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -15,7 +16,6 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Contrôleur pour le tableau de bord principal.
@@ -34,15 +34,20 @@ public class DashboardController {
     @FXML private Button manageWhitelistBtn;
     @FXML private Button createStoreBtn;
     @FXML private Button deleteStoreBtn;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final AuthService authService = new AuthService();
     private final StoreService storeService = new StoreService();
+    private final TaskRunner tasks = new TaskRunner();
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
+        tasks.bindIndicator(loadingIndicator);
+        tasks.cancelOnLeave(storeListView);
+
         User currentUser = SessionManager.getCurrentUser();
 
         if (currentUser != null) {
@@ -78,9 +83,18 @@ public class DashboardController {
      * Rafraîchit la liste des magasins
      */
     private void refreshStoreList() {
-        List<Store> stores = storeService.getAccessibleStores();
-        storeListView.getItems().clear();
-        storeListView.getItems().addAll(stores);
+        tasks.run(storeService::getAccessibleStores, stores -> {
+            storeListView.getItems().clear();
+            storeListView.getItems().addAll(stores);
+        });
+    }
+
+    /**
+     * Bouton Actualiser
+     */
+    @FXML
+    private void handleRefresh() {
+        refreshStoreList();
     }
 
     /**
@@ -119,15 +133,14 @@ public class DashboardController {
         dialog.setHeaderText("Créer un nouveau magasin");
         dialog.setContentText("Nom du magasin:");
 
-        dialog.showAndWait().ifPresent(name -> {
-            StoreService.ServiceResult result = storeService.createStore(name);
+        dialog.showAndWait().ifPresent(name -> tasks.run(() -> storeService.createStore(name), result -> {
             if (result.isSuccess()) {
                 AlertUtil.showSuccess(result.getMessage());
                 refreshStoreList();
             } else {
                 AlertUtil.showError("Erreur", result.getMessage());
             }
-        });
+        }));
     }
 
     /**
@@ -144,13 +157,14 @@ public class DashboardController {
         if (AlertUtil.showConfirmation("Confirmation",
                 "Êtes-vous sûr de vouloir supprimer le magasin '" + selectedStore.getName() + "' ?\n" +
                 "Cette action supprimera également tous les articles associés.")) {
-            StoreService.ServiceResult result = storeService.deleteStore(selectedStore.getId());
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess(result.getMessage());
-                refreshStoreList();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            tasks.run(() -> storeService.deleteStore(selectedStore.getId()), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess(result.getMessage());
+                    refreshStoreList();
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
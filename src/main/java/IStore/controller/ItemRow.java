@@ -0,0 +1,83 @@
+package IStore.controller;
+
+import IStore.model.Item;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+/**
+ * Ligne de la table des articles.
+ * Les propriétés observables sont créées à la première demande d'une cellule puis réutilisées :
+ * le défilement et le rafraîchissement de la table n'allouent plus d'objets par cellule.
+ * Une mise à jour met les propriétés existantes à jour en place, ce qui redessine
+ * uniquement les cellules concernées.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ItemRow {
+    private Item item;
+    private ReadOnlyObjectWrapper<Integer> id;
+    private ReadOnlyStringWrapper name;
+    private ReadOnlyObjectWrapper<Double> price;
+    private ReadOnlyObjectWrapper<Integer> quantity;
+
+    public ItemRow(Item item) {
+        this.item = item;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    public int getId() {
+        return item.getId();
+    }
+
+    /**
+     * Remplace les données de la ligne (même article, nouvelles valeurs)
+     * @return La ligne elle-même
+     */
+    public ItemRow update(Item updated) {
+        this.item = updated;
+        if (name != null) {
+            name.set(updated.getName());
+        }
+        if (price != null && price.get() != updated.getPrice()) {
+            price.set(updated.getPrice());
+        }
+        if (quantity != null && quantity.get() != updated.getQuantity()) {
+            quantity.set(updated.getQuantity());
+        }
+        return this;
+    }
+
+    public ReadOnlyObjectProperty<Integer> idProperty() {
+        if (id == null) {
+            id = new ReadOnlyObjectWrapper<>(this, "id", item.getId());
+        }
+        return id.getReadOnlyProperty();
+    }
+
+    public ReadOnlyStringProperty nameProperty() {
+        if (name == null) {
+            name = new ReadOnlyStringWrapper(this, "name", item.getName());
+        }
+        return name.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty<Double> priceProperty() {
+        if (price == null) {
+            price = new ReadOnlyObjectWrapper<>(this, "price", item.getPrice());
+        }
+        return price.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty<Integer> quantityProperty() {
+        if (quantity == null) {
+            quantity = new ReadOnlyObjectWrapper<>(this, "quantity", item.getQuantity());
+        }
+        return quantity.getReadOnlyProperty();
+    }
+}
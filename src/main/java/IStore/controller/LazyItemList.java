@@ -0,0 +1,297 @@
+package IStore.controller;
+
+import IStore.model.Item;
+import javafx.collections.ObservableListBase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Liste d'articles chargée à la demande pour une TableView.
+ * La taille est connue dès le comptage, mais les lignes ne sont lues que par pages,
+ * lorsque la table les affiche : {@link #get(int)} retourne null pour une ligne pas
+ * encore chargée et déclenche la lecture de sa page, puis de la suivante en avance.
+ * Les pages lues sont gardées dans un petit cache LRU.
+ * Une création ou une suppression est appliquée sur place ({@link #insertItem},
+ * {@link #removeItem}) : les pages en cache sont décalées d'une ligne et la table
+ * garde sa sélection et sa position de défilement.
+ * À utiliser depuis le thread JavaFX ; la source doit répondre de manière asynchrone.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class LazyItemList extends ObservableListBase<ItemRow> {
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    public static final int DEFAULT_CACHED_PAGES = 10;
+
+    /**
+     * Source des données, typiquement une requête en arrière-plan
+     */
+    public interface DataSource {
+        void fetchCount(IntConsumer onLoaded);
+
+        /**
+         * @param onFailed Appelé si la lecture échoue : la page pourra être demandée à nouveau
+         */
+        void fetchPage(int offset, int limit, Consumer<List<Item>> onLoaded, Runnable onFailed);
+    }
+
+    private final DataSource source;
+    private final int pageSize;
+    private final Map<Integer, List<ItemRow>> pages;
+    /** Pages en cours de lecture, avec le numéro de leur demande */
+    private final Map<Integer, Integer> pending = new HashMap<>();
+    /** Lignes d'avant un rafraîchissement, réutilisées pour garder la même instance par article */
+    private final Map<Integer, ItemRow> previousRows = new HashMap<>();
+    private int size;
+    private int generation;
+    private int requests;
+
+    public LazyItemList(DataSource source) {
+        this(source, DEFAULT_PAGE_SIZE, DEFAULT_CACHED_PAGES);
+    }
+
+    public LazyItemList(DataSource source, int pageSize, int cachedPages) {
+        if (pageSize < 1 || cachedPages < 2) {
+            throw new IllegalArgumentException("Taille de page ou de cache invalide");
+        }
+        this.source = source;
+        this.pageSize = pageSize;
+        this.pages = new LinkedHashMap<>(cachedPages * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<ItemRow>> eldest) {
+                return size() > cachedPages;
+            }
+        };
+    }
+
+    /**
+     * Recharge entièrement la liste (ex. nouveaux critères de tri ou de filtre)
+     */
+    public void reload() {
+        previousRows.clear();
+        restart();
+    }
+
+    /**
+     * Relit la liste en conservant les lignes déjà affichées : un article toujours
+     * présent garde sa ligne, mise à jour en place
+     */
+    public void refresh() {
+        previousRows.clear();
+        for (List<ItemRow> rows : pages.values()) {
+            for (ItemRow row : rows) {
+                previousRows.put(row.getId(), row);
+            }
+        }
+        restart();
+    }
+
+    private void restart() {
+        int current = ++generation;
+        pages.clear();
+        pending.clear();
+        // Page et comptage en parallèle : le premier écran n'attend pas le COUNT
+        requestPage(0);
+        source.fetchCount(count -> {
+            if (current == generation) {
+                resize(count);
+            }
+        });
+    }
+
+    /**
+     * @return La ligne, ou null si sa page n'est pas encore chargée
+     */
+    @Override
+    public ItemRow get(int index) {
+        Objects.checkIndex(index, size);
+        int page = index / pageSize;
+        List<ItemRow> rows = pages.get(page);
+        if (rows == null) {
+            requestPage(page);
+            return null;
+        }
+        if ((page + 1) * pageSize < size) {
+            requestPage(page + 1);
+        }
+        int offset = index - page * pageSize;
+        return offset < rows.size() ? rows.get(offset) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Ligne déjà chargée de l'article, sans déclencher de lecture
+     * @return La ligne, ou null si l'article n'est pas dans une page en cache
+     */
+    public ItemRow findLoaded(int itemId) {
+        for (List<ItemRow> rows : pages.values()) {
+            for (ItemRow row : rows) {
+                if (row.getId() == itemId) {
+                    return row;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Insère un article créé à la position {@code index}, sans relire la liste
+     * @param index Position de l'article dans l'ordre de la requête
+     */
+    public void insertItem(int index, Item item) {
+        Objects.checkIndex(index, size + 1);
+        shift(index, 1, new ItemRow(item));
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    /**
+     * Retire la ligne d'un article supprimé, sans relire la liste
+     * @return false si l'article n'est pas dans une page en cache : la liste doit être rafraîchie
+     */
+    public boolean removeItem(int itemId) {
+        for (Map.Entry<Integer, List<ItemRow>> entry : pages.entrySet()) {
+            List<ItemRow> rows = entry.getValue();
+            for (int offset = 0; offset < rows.size(); offset++) {
+                ItemRow row = rows.get(offset);
+                if (row.getId() == itemId) {
+                    int index = entry.getKey() * pageSize + offset;
+                    shift(index, -1, null);
+                    beginChange();
+                    nextRemove(index, row);
+                    endChange();
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Décale d'une ligne les pages en cache à partir de {@code index}. Une page à laquelle il
+     * manque alors une ligne (voisine hors cache) est écartée ; ses lignes seront réutilisées
+     * à sa relecture. Les lectures en cours de ces pages sont relancées.
+     * @param delta 1 pour une insertion de {@code inserted}, -1 pour une suppression
+     */
+    private void shift(int index, int delta, ItemRow inserted) {
+        Map<Integer, ItemRow> byIndex = new HashMap<>();
+        List<Integer> cached = new ArrayList<>(pages.keySet());
+        for (Map.Entry<Integer, List<ItemRow>> entry : pages.entrySet()) {
+            List<ItemRow> rows = entry.getValue();
+            for (int offset = 0; offset < rows.size(); offset++) {
+                int position = entry.getKey() * pageSize + offset;
+                if (position < index) {
+                    byIndex.put(position, rows.get(offset));
+                } else if (delta > 0 || position > index) {
+                    byIndex.put(position + delta, rows.get(offset));
+                }
+            }
+        }
+        if (inserted != null) {
+            byIndex.put(index, inserted);
+        }
+        size += delta;
+
+        pages.clear();
+        for (int page : cached) {
+            int from = page * pageSize;
+            int to = Math.min(size, from + pageSize);
+            List<ItemRow> rows = new ArrayList<>(Math.max(0, to - from));
+            for (int position = from; position < to && byIndex.containsKey(position); position++) {
+                rows.add(byIndex.get(position));
+            }
+            if (from < to && rows.size() == to - from) {
+                pages.put(page, rows);
+                byIndex.keySet().removeIf(position -> position >= from && position < to);
+            }
+        }
+        for (ItemRow row : byIndex.values()) {
+            previousRows.put(row.getId(), row);
+        }
+
+        int firstShifted = index / pageSize;
+        List<Integer> stale = pending.keySet().stream().filter(page -> page >= firstShifted).toList();
+        for (int page : stale) {
+            pending.remove(page);
+            if (page * pageSize < size) {
+                requestPage(page);
+            }
+        }
+    }
+
+    /**
+     * Nombre de pages actuellement en cache
+     */
+    public int getCachedPageCount() {
+        return pages.size();
+    }
+
+    private void requestPage(int page) {
+        if (pages.containsKey(page) || pending.containsKey(page)) {
+            return;
+        }
+        // Une réponse n'est retenue que si sa demande est toujours celle en cours pour la page
+        int request = ++requests;
+        pending.put(page, request);
+        source.fetchPage(page * pageSize, pageSize, items -> {
+            if (pending.remove(page, request)) {
+                pageLoaded(page, items);
+            }
+        }, () -> pending.remove(page, request));
+    }
+
+    private void pageLoaded(int page, List<Item> items) {
+        List<ItemRow> rows = new ArrayList<>(items.size());
+        for (Item item : items) {
+            ItemRow previous = previousRows.remove(item.getId());
+            rows.add(previous != null ? previous.update(item) : new ItemRow(item));
+        }
+        pages.put(page, rows);
+
+        int from = page * pageSize;
+        int to = Math.min(size, from + rows.size());
+        if (from < to) {
+            beginChange();
+            nextReplace(from, to, Collections.nCopies(to - from, null));
+            endChange();
+        }
+    }
+
+    /**
+     * La différence de taille est ajoutée ou retirée en fin de liste, puis les lignes communes
+     * sont signalées comme relues : deux changements distincts, sinon fusionnés en un
+     * remplacement de toute la liste qui réinitialiserait la sélection de la table
+     */
+    private void resize(int newSize) {
+        int oldSize = size;
+        if (newSize != oldSize) {
+            beginChange();
+            size = newSize;
+            if (newSize < oldSize) {
+                nextRemove(newSize, Collections.nCopies(oldSize - newSize, null));
+            } else {
+                nextAdd(oldSize, newSize);
+            }
+            endChange();
+        }
+        int kept = Math.min(oldSize, newSize);
+        if (kept > 0) {
+            beginChange();
+            nextReplace(0, kept, Collections.nCopies(kept, null));
+            endChange();
+        }
+    }
+}
@@ -2,11 +2,14 @@ package IStore.controller;
 
 import IStore.service.AuthService;
 import IStore.util.AlertUtil;
+import IStore.util.TaskRunner;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
@@ -23,15 +26,20 @@ public class LoginController {
 
     @FXML private TextField emailField;
     @FXML private PasswordField passwordField;
+    @FXML private Button loginButton;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final AuthService authService = new AuthService();
+    private final TaskRunner tasks = new TaskRunner();
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
-        // Configuration initiale si nécessaire
+        tasks.bindIndicator(loadingIndicator);
+        tasks.disableWhileBusy(loginButton);
+        tasks.cancelOnLeave(emailField);
     }
 
     /**
@@ -42,13 +50,14 @@ public class LoginController {
         String email = emailField.getText();
         String password = passwordField.getText();
 
-        AuthService.AuthResult result = authService.login(email, password);
-
-        if (result.isSuccess()) {
-            navigateToDashboard();
-        } else {
-            AlertUtil.showError("Erreur de connexion", result.getMessage());
-        }
+        // La vérification bcrypt et la requête ne bloquent pas l'interface
+        tasks.run(() -> authService.login(email, password), result -> {
+            if (result.isSuccess()) {
+                navigateToDashboard();
+            } else {
+                AlertUtil.showError("Erreur de connexion", result.getMessage());
+            }
+        });
     }
 
     /**
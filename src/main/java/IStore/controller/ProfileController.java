@@ -5,6 +5,7 @@ import IStore.service.AuthService;
 import IStore.service.UserService;
 import IStore.util.AlertUtil;
 import IStore.util.SessionManager;
+import IStore.util.TaskRunner;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -30,15 +31,29 @@ public class ProfileController {
     @FXML private PasswordField currentPasswordField;
     @FXML private PasswordField newPasswordField;
     @FXML private PasswordField confirmPasswordField;
+    @FXML private Button saveButton;
+    @FXML private Button deleteAccountButton;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final UserService userService = new UserService();
     private final AuthService authService = new AuthService();
+    private final TaskRunner tasks = new TaskRunner();
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
+        tasks.bindIndicator(loadingIndicator);
+        tasks.disableWhileBusy(saveButton, deleteAccountButton);
+        tasks.cancelOnLeave(pseudoField);
+        showCurrentUser();
+    }
+
+    /**
+     * Affiche les informations de l'utilisateur connecté
+     */
+    private void showCurrentUser() {
         User currentUser = SessionManager.getCurrentUser();
         if (currentUser != null) {
             emailLabel.setText(currentUser.getEmail());
@@ -68,24 +83,22 @@ public class ProfileController {
             return;
         }
 
-        UserService.ServiceResult result = userService.updateUser(
-            currentUser.getId(),
-            pseudoField.getText(),
-            emailField.getText(),
-            newPassword
-        );
-
-        if (result.isSuccess()) {
-            AlertUtil.showSuccess(result.getMessage());
-            // Effacer les champs de mot de passe
-            currentPasswordField.clear();
-            newPasswordField.clear();
-            confirmPasswordField.clear();
-            // Mettre à jour les labels
-            initialize();
-        } else {
-            AlertUtil.showError("Erreur", result.getMessage());
-        }
+        String pseudo = pseudoField.getText();
+        String email = emailField.getText();
+
+        tasks.run(() -> userService.updateUser(currentUser.getId(), pseudo, email, newPassword), result -> {
+            if (result.isSuccess()) {
+                AlertUtil.showSuccess(result.getMessage());
+                // Effacer les champs de mot de passe
+                currentPasswordField.clear();
+                newPasswordField.clear();
+                confirmPasswordField.clear();
+                // Mettre à jour les labels
+                showCurrentUser();
+            } else {
+                AlertUtil.showError("Erreur", result.getMessage());
+            }
+        });
     }
 
     /**
@@ -97,15 +110,15 @@ public class ProfileController {
                 "Êtes-vous sûr de vouloir supprimer votre compte ?\nCette action est irréversible !")) {
 
             User currentUser = SessionManager.getCurrentUser();
-            UserService.ServiceResult result = userService.deleteUser(currentUser.getId());
-
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess("Compte supprimé avec succès");
-                // Rediriger vers la page de connexion
-                handleBack();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            tasks.run(() -> userService.deleteUser(currentUser.getId()), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess("Compte supprimé avec succès");
+                    // Rediriger vers la page de connexion
+                    handleBack();
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
@@ -2,11 +2,14 @@ package IStore.controller;
 
 import IStore.service.AuthService;
 import IStore.util.AlertUtil;
+import IStore.util.TaskRunner;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 
@@ -25,8 +28,21 @@ public class RegisterController {
     @FXML private TextField pseudoField;
     @FXML private PasswordField passwordField;
     @FXML private PasswordField confirmPasswordField;
+    @FXML private Button registerButton;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final AuthService authService = new AuthService();
+    private final TaskRunner tasks = new TaskRunner();
+
+    /**
+     * Initialise le contrôleur
+     */
+    @FXML
+    public void initialize() {
+        tasks.bindIndicator(loadingIndicator);
+        tasks.disableWhileBusy(registerButton);
+        tasks.cancelOnLeave(emailField);
+    }
 
     /**
      * Gère la tentative d'inscription
@@ -38,14 +54,14 @@ public class RegisterController {
         String password = passwordField.getText();
         String confirmPassword = confirmPasswordField.getText();
 
-        AuthService.AuthResult result = authService.register(email, pseudo, password, confirmPassword);
-
-        if (result.isSuccess()) {
-            AlertUtil.showSuccess(result.getMessage());
-            navigateToLogin();
-        } else {
-            AlertUtil.showError("Erreur d'inscription", result.getMessage());
-        }
+        tasks.run(() -> authService.register(email, pseudo, password, confirmPassword), result -> {
+            if (result.isSuccess()) {
+                AlertUtil.showSuccess(result.getMessage());
+                navigateToLogin();
+            } else {
+                AlertUtil.showError("Erreur d'inscription", result.getMessage());
+            }
+        });
     }
 
     /**
@@ -1,15 +1,17 @@
 package IStore.controller;
 
 import IStore.model.Item;
+import IStore.model.ItemQuery;
 import IStore.model.Store;
-import IStore.model.User;
+import IStore.model.UserSummary;
 import IStore.service.InventoryService;
 import IStore.service.StoreService;
 import IStore.util.AlertUtil;
 import IStore.util.SessionManager;
-import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleStringProperty;
+import IStore.util.TaskRunner;
+import IStore.util.ValidationUtil;
+import javafx.animation.PauseTransition;
+import javafx.beans.binding.BooleanBinding;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
@@ -18,10 +20,13 @@ import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Contrôleur pour la vue d'un magasin.
@@ -33,20 +38,52 @@ import java.util.Optional;
 public class StoreController {
 
     @FXML private Label storeNameLabel;
-    @FXML private TableView<Item> itemsTable;
-    @FXML private TableColumn<Item, Integer> idColumn;
-    @FXML private TableColumn<Item, String> nameColumn;
-    @FXML private TableColumn<Item, Double> priceColumn;
-    @FXML private TableColumn<Item, Integer> quantityColumn;
-    @FXML private ListView<User> employeesListView;
+    @FXML private TableView<ItemRow> itemsTable;
+    @FXML private TableColumn<ItemRow, Integer> idColumn;
+    @FXML private TableColumn<ItemRow, String> nameColumn;
+    @FXML private TableColumn<ItemRow, Double> priceColumn;
+    @FXML private TableColumn<ItemRow, Integer> quantityColumn;
+    @FXML private ListView<UserSummary> employeesListView;
     @FXML private Button addItemBtn;
     @FXML private Button deleteItemBtn;
     @FXML private Button addEmployeeBtn;
     @FXML private Button removeEmployeeBtn;
+    @FXML private ProgressIndicator loadingIndicator;
+    @FXML private TextField searchField;
+    @FXML private TextField minPriceField;
+    @FXML private TextField maxPriceField;
+    @FXML private CheckBox lowStockCheck;
+
+    private static final Duration SEARCH_DELAY = Duration.millis(300);
 
     private Store currentStore;
+    private ItemQuery itemQuery;
+    private LazyItemList items;
     private final InventoryService inventoryService = new InventoryService();
     private final StoreService storeService = new StoreService();
+    private final TaskRunner tasks = new TaskRunner();
+    /** Lectures de la table, annulées dès que les critères changent */
+    private final TaskRunner queries = new TaskRunner();
+    /** Attend une pause dans la saisie avant de relancer la recherche */
+    private final PauseTransition searchDelay = new PauseTransition(SEARCH_DELAY);
+
+    /**
+     * Initialise le contrôleur
+     */
+    @FXML
+    public void initialize() {
+        BooleanBinding busy = tasks.busyProperty().or(queries.busyProperty());
+        loadingIndicator.visibleProperty().bind(busy);
+        loadingIndicator.managedProperty().bind(busy);
+        tasks.cancelOnLeave(itemsTable);
+        queries.cancelOnLeave(itemsTable);
+
+        searchDelay.setOnFinished(event -> applyFilters());
+        searchField.textProperty().addListener((obs, oldText, text) -> searchDelay.playFromStart());
+        minPriceField.textProperty().addListener((obs, oldText, text) -> searchDelay.playFromStart());
+        maxPriceField.textProperty().addListener((obs, oldText, text) -> searchDelay.playFromStart());
+        lowStockCheck.selectedProperty().addListener((obs, wasSelected, selected) -> applyFilters());
+    }
 
     /**
      * Définit le magasin à afficher
@@ -55,8 +92,27 @@ public class StoreController {
         this.currentStore = store;
         storeNameLabel.setText("Magasin: " + store.getName());
 
+        itemQuery = ItemQuery.forStore(store.getId());
+        items = new LazyItemList(new LazyItemList.DataSource() {
+            @Override
+            public void fetchCount(IntConsumer onLoaded) {
+                ItemQuery query = itemQuery;
+                queries.run(() -> inventoryService.countItems(query), onLoaded::accept);
+            }
+
+            @Override
+            public void fetchPage(int offset, int limit, Consumer<List<Item>> onLoaded, Runnable onFailed) {
+                ItemQuery query = itemQuery;
+                queries.run(() -> inventoryService.findItems(query, offset, limit), onLoaded, error -> onFailed.run());
+            }
+        });
+        itemsTable.setItems(items);
+        // Le tri est fait par la requête, pas en mémoire sur la liste
+        itemsTable.setSortPolicy(table -> applySort());
+
         setupColumns();
-        refreshItems();
+        setupEmployeeList();
+        items.reload();
         refreshEmployees();
 
         // Afficher/masquer les boutons admin
@@ -71,53 +127,156 @@ public class StoreController {
      * Configure les colonnes de la table
      */
     private void setupColumns() {
-        idColumn.setCellValueFactory(data -> new SimpleIntegerProperty(data.getValue().getId()).asObject());
-        nameColumn.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().getName()));
-        priceColumn.setCellValueFactory(data -> new SimpleDoubleProperty(data.getValue().getPrice()).asObject());
-        quantityColumn.setCellValueFactory(data -> new SimpleIntegerProperty(data.getValue().getQuantity()).asObject());
+        // Propriétés mises en cache par ligne : aucune allocation à chaque rendu de cellule.
+        // Une ligne dont la page n'est pas encore chargée est vide.
+        idColumn.setCellValueFactory(data -> data.getValue() == null ? null : data.getValue().idProperty());
+        nameColumn.setCellValueFactory(data -> data.getValue() == null ? null : data.getValue().nameProperty());
+        priceColumn.setCellValueFactory(data -> data.getValue() == null ? null : data.getValue().priceProperty());
+        quantityColumn.setCellValueFactory(data -> data.getValue() == null ? null : data.getValue().quantityProperty());
+    }
+
+    /**
+     * Traduit l'ordre de tri de la table en critères de requête et recharge si besoin
+     */
+    private boolean applySort() {
+        ItemQuery.Sort sort = ItemQuery.Sort.NAME;
+        boolean descending = false;
+        if (!itemsTable.getSortOrder().isEmpty()) {
+            TableColumn<ItemRow, ?> column = itemsTable.getSortOrder().get(0);
+            if (column == idColumn) {
+                sort = ItemQuery.Sort.ID;
+            } else if (column == priceColumn) {
+                sort = ItemQuery.Sort.PRICE;
+            } else if (column == quantityColumn) {
+                sort = ItemQuery.Sort.QUANTITY;
+            }
+            descending = column.getSortType() == TableColumn.SortType.DESCENDING;
+        }
+
+        setQuery(itemQuery.withSort(sort, descending));
+        return true;
+    }
+
+    /**
+     * Applique les filtres saisis ; un prix invalide est ignoré
+     */
+    private void applyFilters() {
+        searchDelay.stop();
+        if (itemQuery == null) {
+            return;
+        }
+        ItemQuery filtered = itemQuery
+            .withNameContaining(searchField.getText())
+            .withPriceRange(parsePrice(minPriceField.getText()), parsePrice(maxPriceField.getText()))
+            .withQuantityRange(null, lowStockCheck.isSelected() ? InventoryService.LOW_STOCK_THRESHOLD : null);
+        setQuery(filtered);
+    }
+
+    private static Double parsePrice(String text) {
+        return ValidationUtil.validatePrice(text) == null ? Double.parseDouble(text.trim()) : null;
     }
 
     /**
-     * Rafraîchit la liste des articles
+     * Recharge la table si les critères ont changé, en abandonnant les lectures en cours
+     */
+    private void setQuery(ItemQuery query) {
+        if (!query.equals(itemQuery)) {
+            itemQuery = query;
+            queries.cancelAll();
+            items.reload();
+        }
+    }
+
+    /**
+     * Relit les articles ; les lignes affichées sont mises à jour en place
      */
     private void refreshItems() {
-        if (currentStore != null) {
-            List<Item> items = inventoryService.getItemsByStore(currentStore.getId());
-            itemsTable.getItems().clear();
-            itemsTable.getItems().addAll(items);
+        if (items != null) {
+            items.refresh();
         }
     }
 
+    /**
+     * Insère la ligne d'un article créé à sa place dans le tri courant, sans relire le magasin ;
+     * un article exclu par les filtres n'est pas affiché
+     */
+    private void insertCreatedItem(Item item) {
+        ItemQuery query = itemQuery;
+        queries.run(() -> inventoryService.indexOfItem(query, item.getId()), index -> {
+            if (query != itemQuery || index < 0) {
+                return;
+            }
+            if (index <= items.size()) {
+                items.insertItem(index, item);
+            } else {
+                refreshItems();
+            }
+        });
+    }
+
+    /**
+     * Configure l'affichage de la liste des employés
+     */
+    private void setupEmployeeList() {
+        // Afficher le pseudo
+        employeesListView.setCellFactory(lv -> new ListCell<>() {
+            @Override
+            protected void updateItem(UserSummary user, boolean empty) {
+                super.updateItem(user, empty);
+                if (empty || user == null) {
+                    setText(null);
+                } else {
+                    setText(user.getPseudo() + " (" + user.getEmail() + ") - " + user.getRole());
+                }
+            }
+        });
+    }
+
     /**
      * Rafraîchit la liste des employés
      */
     private void refreshEmployees() {
         if (currentStore != null) {
-            List<User> employees = storeService.getStoreEmployees(currentStore.getId());
-            employeesListView.getItems().clear();
-            employeesListView.getItems().addAll(employees);
-
-            // Afficher le pseudo
-            employeesListView.setCellFactory(lv -> new ListCell<>() {
-                @Override
-                protected void updateItem(User user, boolean empty) {
-                    super.updateItem(user, empty);
-                    if (empty || user == null) {
-                        setText(null);
-                    } else {
-                        setText(user.getPseudo() + " (" + user.getEmail() + ") - " + user.getRole());
-                    }
-                }
+            int storeId = currentStore.getId();
+            tasks.run(() -> storeService.getStoreEmployees(storeId), employees -> {
+                employeesListView.getItems().clear();
+                employeesListView.getItems().addAll(employees);
             });
         }
     }
 
+    /**
+     * Article de la ligne sélectionnée, ou null
+     */
+    private Item getSelectedItem() {
+        ItemRow row = itemsTable.getSelectionModel().getSelectedItem();
+        return row == null ? null : row.getItem();
+    }
+
+    /**
+     * Affiche le résultat d'une opération sur un article et met à jour sa seule ligne,
+     * à partir de l'article renvoyé par le service (sans relire le magasin)
+     */
+    private void handleItemResult(InventoryService.ServiceResult result) {
+        if (result.isSuccess()) {
+            ItemRow row = result.getItem() == null ? null : items.findLoaded(result.getItem().getId());
+            if (row != null) {
+                row.update(result.getItem());
+            } else {
+                refreshItems();
+            }
+            AlertUtil.showSuccess(result.getMessage());
+        } else {
+            AlertUtil.showError("Erreur", result.getMessage());
+        }
+    }
+
     /**
      * Ajoute un nouvel article (admin)
      */
     @FXML
     private void handleAddItem() {
-        Dialog<Item> dialog = new Dialog<>();
+        Dialog<ButtonType> dialog = new Dialog<>();
         dialog.setTitle("Nouvel article");
         dialog.setHeaderText("Créer un nouvel article");
 
@@ -145,26 +304,20 @@ public class StoreController {
 
         dialog.getDialogPane().setContent(grid);
 
-        dialog.setResultConverter(dialogButton -> {
-            if (dialogButton == createButtonType) {
-                InventoryService.ServiceResult result = inventoryService.createItem(
-                    nameField.getText(),
-                    priceField.getText(),
-                    quantityField.getText(),
-                    currentStore.getId()
-                );
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) == createButtonType) {
+            String name = nameField.getText();
+            String price = priceField.getText();
+            String quantity = quantityField.getText();
+            int storeId = currentStore.getId();
+            tasks.run(() -> inventoryService.createItem(name, price, quantity, storeId), result -> {
                 if (result.isSuccess()) {
                     AlertUtil.showSuccess(result.getMessage());
-                    return result.getItem();
+                    insertCreatedItem(result.getItem());
                 } else {
                     AlertUtil.showError("Erreur", result.getMessage());
                 }
-            }
-            return null;
-        });
-
-        dialog.showAndWait();
-        refreshItems();
+            });
+        }
     }
 
     /**
@@ -172,7 +325,7 @@ public class StoreController {
      */
     @FXML
     private void handleEditItem() {
-        Item selectedItem = itemsTable.getSelectionModel().getSelectedItem();
+        Item selectedItem = getSelectedItem();
         if (selectedItem == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un article");
             return;
@@ -183,7 +336,7 @@ public class StoreController {
             return;
         }
 
-        Dialog<Item> dialog = new Dialog<>();
+        Dialog<ButtonType> dialog = new Dialog<>();
         dialog.setTitle("Modifier l'article");
         dialog.setHeaderText("Modifier: " + selectedItem.getName());
 
@@ -208,26 +361,13 @@ public class StoreController {
 
         dialog.getDialogPane().setContent(grid);
 
-        dialog.setResultConverter(dialogButton -> {
-            if (dialogButton == saveButtonType) {
-                InventoryService.ServiceResult result = inventoryService.updateItem(
-                    selectedItem.getId(),
-                    nameField.getText(),
-                    priceField.getText(),
-                    quantityField.getText()
-                );
-                if (result.isSuccess()) {
-                    AlertUtil.showSuccess(result.getMessage());
-                    return result.getItem();
-                } else {
-                    AlertUtil.showError("Erreur", result.getMessage());
-                }
-            }
-            return null;
-        });
-
-        dialog.showAndWait();
-        refreshItems();
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) == saveButtonType) {
+            String name = nameField.getText();
+            String price = priceField.getText();
+            String quantity = quantityField.getText();
+            tasks.run(() -> inventoryService.updateItem(selectedItem.getId(), name, price, quantity),
+                this::handleItemResult);
+        }
     }
 
     /**
@@ -235,7 +375,7 @@ public class StoreController {
      */
     @FXML
     private void handleDeleteItem() {
-        Item selectedItem = itemsTable.getSelectionModel().getSelectedItem();
+        Item selectedItem = getSelectedItem();
         if (selectedItem == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un article");
             return;
@@ -243,13 +383,16 @@ public class StoreController {
 
         if (AlertUtil.showConfirmation("Confirmation",
                 "Êtes-vous sûr de vouloir supprimer l'article '" + selectedItem.getName() + "' ?")) {
-            InventoryService.ServiceResult result = inventoryService.deleteItem(selectedItem.getId());
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess(result.getMessage());
-                refreshItems();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            tasks.run(() -> inventoryService.deleteItem(selectedItem.getId()), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess(result.getMessage());
+                    if (!items.removeItem(selectedItem.getId())) {
+                        refreshItems();
+                    }
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
@@ -258,7 +401,7 @@ public class StoreController {
      */
     @FXML
     private void handleIncreaseStock() {
-        Item selectedItem = itemsTable.getSelectionModel().getSelectedItem();
+        Item selectedItem = getSelectedItem();
         if (selectedItem == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un article");
             return;
@@ -273,13 +416,7 @@ public class StoreController {
         result.ifPresent(amountStr -> {
             try {
                 int amount = Integer.parseInt(amountStr);
-                InventoryService.ServiceResult serviceResult = inventoryService.increaseStock(selectedItem.getId(), amount);
-                if (serviceResult.isSuccess()) {
-                    AlertUtil.showSuccess(serviceResult.getMessage());
-                    refreshItems();
-                } else {
-                    AlertUtil.showError("Erreur", serviceResult.getMessage());
-                }
+                tasks.run(() -> inventoryService.increaseStock(selectedItem, amount), this::handleItemResult);
             } catch (NumberFormatException e) {
                 AlertUtil.showError("Erreur", "Veuillez entrer un nombre valide");
             }
@@ -291,7 +428,7 @@ public class StoreController {
      */
     @FXML
     private void handleDecreaseStock() {
-        Item selectedItem = itemsTable.getSelectionModel().getSelectedItem();
+        Item selectedItem = getSelectedItem();
         if (selectedItem == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un article");
             return;
@@ -306,13 +443,7 @@ public class StoreController {
         result.ifPresent(amountStr -> {
             try {
                 int amount = Integer.parseInt(amountStr);
-                InventoryService.ServiceResult serviceResult = inventoryService.decreaseStock(selectedItem.getId(), amount);
-                if (serviceResult.isSuccess()) {
-                    AlertUtil.showSuccess(serviceResult.getMessage());
-                    refreshItems();
-                } else {
-                    AlertUtil.showError("Erreur", serviceResult.getMessage());
-                }
+                tasks.run(() -> inventoryService.decreaseStock(selectedItem, amount), this::handleItemResult);
             } catch (NumberFormatException e) {
                 AlertUtil.showError("Erreur", "Veuillez entrer un nombre valide");
             }
@@ -346,7 +477,7 @@ public class StoreController {
      */
     @FXML
     private void handleRemoveEmployee() {
-        User selectedEmployee = employeesListView.getSelectionModel().getSelectedItem();
+        UserSummary selectedEmployee = employeesListView.getSelectionModel().getSelectedItem();
         if (selectedEmployee == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un employé");
             return;
@@ -354,14 +485,15 @@ public class StoreController {
 
         if (AlertUtil.showConfirmation("Confirmation",
                 "Retirer l'accès de '" + selectedEmployee.getPseudo() + "' à ce magasin ?")) {
-            StoreService.ServiceResult result = storeService.removeEmployeeFromStore(
-                selectedEmployee.getId(), currentStore.getId());
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess(result.getMessage());
-                refreshEmployees();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            int storeId = currentStore.getId();
+            tasks.run(() -> storeService.removeEmployeeFromStore(selectedEmployee.getId(), storeId), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess(result.getMessage());
+                    refreshEmployees();
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
@@ -1,10 +1,11 @@
 package IStore.controller;
 
-import IStore.model.User;
+import IStore.model.UserSummary;
 import IStore.model.Role;
 import IStore.service.UserService;
 import IStore.util.AlertUtil;
 import IStore.util.SessionManager;
+import IStore.util.TaskRunner;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.fxml.FXML;
@@ -17,7 +18,6 @@ import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Contrôleur pour la gestion des utilisateurs.
@@ -28,19 +28,23 @@ import java.util.List;
  */
 public class UserManagementController {
 
-    @FXML private TableView<User> usersTable;
-    @FXML private TableColumn<User, Integer> idColumn;
-    @FXML private TableColumn<User, String> emailColumn;
-    @FXML private TableColumn<User, String> pseudoColumn;
-    @FXML private TableColumn<User, String> roleColumn;
+    @FXML private TableView<UserSummary> usersTable;
+    @FXML private TableColumn<UserSummary, Integer> idColumn;
+    @FXML private TableColumn<UserSummary, String> emailColumn;
+    @FXML private TableColumn<UserSummary, String> pseudoColumn;
+    @FXML private TableColumn<UserSummary, String> roleColumn;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final UserService userService = new UserService();
+    private final TaskRunner tasks = new TaskRunner();
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
+        tasks.bindIndicator(loadingIndicator);
+        tasks.cancelOnLeave(usersTable);
         setupColumns();
         refreshUsers();
     }
@@ -59,9 +63,10 @@ public class UserManagementController {
      * Rafraîchit la liste des utilisateurs
      */
     private void refreshUsers() {
-        List<User> users = userService.getAllUsers();
-        usersTable.getItems().clear();
-        usersTable.getItems().addAll(users);
+        tasks.run(userService::getAllUsers, users -> {
+            usersTable.getItems().clear();
+            usersTable.getItems().addAll(users);
+        });
     }
 
     /**
@@ -69,22 +74,29 @@ public class UserManagementController {
      */
     @FXML
     private void handleEditUser() {
-        User selectedUser = usersTable.getSelectionModel().getSelectedItem();
+        UserSummary selectedUser = usersTable.getSelectionModel().getSelectedItem();
         if (selectedUser == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un utilisateur");
             return;
         }
 
         // Récupérer les vraies données de l'utilisateur
-        User fullUser = userService.getUserById(selectedUser.getId());
-        if (fullUser == null) {
-            AlertUtil.showError("Erreur", "Utilisateur non trouvé");
-            return;
-        }
+        tasks.run(() -> userService.getUserById(selectedUser.getId()), user -> {
+            if (user == null) {
+                AlertUtil.showError("Erreur", "Utilisateur non trouvé");
+                return;
+            }
+            showEditDialog(user);
+        });
+    }
 
-        Dialog<Boolean> dialog = new Dialog<>();
+    /**
+     * Affiche le dialogue de modification puis enregistre en arrière-plan
+     */
+    private void showEditDialog(UserSummary user) {
+        Dialog<ButtonType> dialog = new Dialog<>();
         dialog.setTitle("Modifier l'utilisateur");
-        dialog.setHeaderText("Modifier: " + fullUser.getPseudo());
+        dialog.setHeaderText("Modifier: " + user.getPseudo());
 
         ButtonType saveButtonType = new ButtonType("Enregistrer", ButtonBar.ButtonData.OK_DONE);
         dialog.getDialogPane().getButtonTypes().addAll(saveButtonType, ButtonType.CANCEL);
@@ -94,18 +106,18 @@ public class UserManagementController {
         grid.setVgap(10);
         grid.setPadding(new Insets(20, 150, 10, 10));
 
-        TextField emailField = new TextField(fullUser.getEmail());
-        TextField pseudoField = new TextField(fullUser.getPseudo());
+        TextField emailField = new TextField(user.getEmail());
+        TextField pseudoField = new TextField(user.getPseudo());
         PasswordField passwordField = new PasswordField();
         passwordField.setPromptText("Laisser vide pour ne pas changer");
 
         ComboBox<Role> roleComboBox = new ComboBox<>();
         roleComboBox.getItems().addAll(Role.values());
-        roleComboBox.setValue(fullUser.getRole());
+        roleComboBox.setValue(user.getRole());
 
         // Seul un admin peut changer le rôle et pas son propre rôle
         boolean canChangeRole = SessionManager.isAdmin() &&
-                                SessionManager.getCurrentUser().getId() != fullUser.getId();
+                                SessionManager.getCurrentUser().getId() != user.getId();
         roleComboBox.setDisable(!canChangeRole);
 
         grid.add(new Label("Email:"), 0, 0);
@@ -119,39 +131,38 @@ public class UserManagementController {
 
         dialog.getDialogPane().setContent(grid);
 
-        dialog.setResultConverter(dialogButton -> {
-            if (dialogButton == saveButtonType) {
-                // Mise à jour des infos de base
-                UserService.ServiceResult result = userService.updateUser(
-                    fullUser.getId(),
-                    pseudoField.getText(),
-                    emailField.getText(),
-                    passwordField.getText()
-                );
-
-                if (!result.isSuccess()) {
-                    AlertUtil.showError("Erreur", result.getMessage());
-                    return false;
-                }
+        if (dialog.showAndWait().orElse(ButtonType.CANCEL) != saveButtonType) {
+            return;
+        }
 
-                // Mise à jour du rôle si autorisé et changé
-                if (canChangeRole && roleComboBox.getValue() != fullUser.getRole()) {
-                    UserService.ServiceResult roleResult = userService.updateUserRole(
-                        fullUser.getId(), roleComboBox.getValue());
-                    if (!roleResult.isSuccess()) {
-                        AlertUtil.showError("Erreur", roleResult.getMessage());
-                        return false;
-                    }
-                }
+        String pseudo = pseudoField.getText();
+        String email = emailField.getText();
+        String password = passwordField.getText();
+        Role newRole = roleComboBox.getValue();
 
-                AlertUtil.showSuccess("Utilisateur mis à jour avec succès");
-                return true;
+        tasks.run(() -> {
+            // Mise à jour des infos de base
+            UserService.ServiceResult result = userService.updateUser(user.getId(), pseudo, email, password);
+            if (!result.isSuccess()) {
+                return result;
             }
-            return false;
-        });
 
-        dialog.showAndWait();
-        refreshUsers();
+            // Mise à jour du rôle si autorisé et changé
+            if (canChangeRole && newRole != user.getRole()) {
+                UserService.ServiceResult roleResult = userService.updateUserRole(user.getId(), newRole);
+                if (!roleResult.isSuccess()) {
+                    return roleResult;
+                }
+            }
+            return new UserService.ServiceResult(true, "Utilisateur mis à jour avec succès");
+        }, result -> {
+            if (result.isSuccess()) {
+                AlertUtil.showSuccess(result.getMessage());
+            } else {
+                AlertUtil.showError("Erreur", result.getMessage());
+            }
+            refreshUsers();
+        });
     }
 
     /**
@@ -159,7 +170,7 @@ public class UserManagementController {
      */
     @FXML
     private void handleDeleteUser() {
-        User selectedUser = usersTable.getSelectionModel().getSelectedItem();
+        UserSummary selectedUser = usersTable.getSelectionModel().getSelectedItem();
         if (selectedUser == null) {
             AlertUtil.showWarning("Attention", "Veuillez sélectionner un utilisateur");
             return;
@@ -173,13 +184,14 @@ public class UserManagementController {
 
         if (AlertUtil.showConfirmation("Confirmation",
                 "Êtes-vous sûr de vouloir supprimer l'utilisateur '" + selectedUser.getPseudo() + "' ?")) {
-            UserService.ServiceResult result = userService.deleteUser(selectedUser.getId());
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess(result.getMessage());
-                refreshUsers();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            tasks.run(() -> userService.deleteUser(selectedUser.getId()), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess(result.getMessage());
+                    refreshUsers();
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
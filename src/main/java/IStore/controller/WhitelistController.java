@@ -3,6 +3,7 @@ package IStore.controller;
 import IStore.model.Whitelist;
 import IStore.service.WhitelistService;
 import IStore.util.AlertUtil;
+import IStore.util.TaskRunner;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -11,7 +12,6 @@ import javafx.scene.control.*;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Contrôleur pour la gestion de la whitelist.
@@ -24,14 +24,18 @@ public class WhitelistController {
 
     @FXML private ListView<Whitelist> whitelistView;
     @FXML private TextField emailField;
+    @FXML private ProgressIndicator loadingIndicator;
 
     private final WhitelistService whitelistService = new WhitelistService();
+    private final TaskRunner tasks = new TaskRunner();
 
     /**
      * Initialise le contrôleur
      */
     @FXML
     public void initialize() {
+        tasks.bindIndicator(loadingIndicator);
+        tasks.cancelOnLeave(whitelistView);
         refreshWhitelist();
 
         // Afficher l'email dans la liste
@@ -52,9 +56,10 @@ public class WhitelistController {
      * Rafraîchit la liste des emails whitelistés
      */
     private void refreshWhitelist() {
-        List<Whitelist> whitelist = whitelistService.getAllWhitelistedEmails();
-        whitelistView.getItems().clear();
-        whitelistView.getItems().addAll(whitelist);
+        tasks.run(whitelistService::getAllWhitelistedEmails, whitelist -> {
+            whitelistView.getItems().clear();
+            whitelistView.getItems().addAll(whitelist);
+        });
     }
 
     /**
@@ -64,14 +69,15 @@ public class WhitelistController {
     private void handleAddEmail() {
         String email = emailField.getText();
 
-        WhitelistService.ServiceResult result = whitelistService.addEmail(email);
-        if (result.isSuccess()) {
-            AlertUtil.showSuccess(result.getMessage());
-            emailField.clear();
-            refreshWhitelist();
-        } else {
-            AlertUtil.showError("Erreur", result.getMessage());
-        }
+        tasks.run(() -> whitelistService.addEmail(email), result -> {
+            if (result.isSuccess()) {
+                AlertUtil.showSuccess(result.getMessage());
+                emailField.clear();
+                refreshWhitelist();
+            } else {
+                AlertUtil.showError("Erreur", result.getMessage());
+            }
+        });
     }
 
     /**
@@ -87,13 +93,14 @@ public class WhitelistController {
 
         if (AlertUtil.showConfirmation("Confirmation",
                 "Retirer '" + selected.getEmail() + "' de la whitelist ?")) {
-            WhitelistService.ServiceResult result = whitelistService.removeEmail(selected.getId());
-            if (result.isSuccess()) {
-                AlertUtil.showSuccess(result.getMessage());
-                refreshWhitelist();
-            } else {
-                AlertUtil.showError("Erreur", result.getMessage());
-            }
+            tasks.run(() -> whitelistService.removeEmail(selected.getId()), result -> {
+                if (result.isSuccess()) {
+                    AlertUtil.showSuccess(result.getMessage());
+                    refreshWhitelist();
+                } else {
+                    AlertUtil.showError("Erreur", result.getMessage());
+                }
+            });
         }
     }
 
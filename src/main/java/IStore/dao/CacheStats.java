@@ -0,0 +1,42 @@
+package IStore.dao;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compteurs de succès/échecs d'un cache.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class CacheStats {
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public void recordHit() {
+        hits.increment();
+    }
+
+    public void recordMiss() {
+        misses.increment();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long h = getHits();
+        long total = h + getMisses();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    @Override
+    public String toString() {
+        return "Cache{hits=" + getHits() + ", misses=" + getMisses()
+            + ", hitRate=" + String.format("%.1f%%", getHitRate() * 100) + "}";
+    }
+}
@@ -0,0 +1,162 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import IStore.model.Store;
+import IStore.model.StoreAccess;
+import IStore.model.UserSummary;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Cache des droits d'accès par utilisateur, devant un autre StoreAccessDAO.
+ * Chaque utilisateur est associé au tableau trié des IDs de ses magasins, chargé en une
+ * requête (à la connexion ou au premier contrôle) : {@link #hasAccess} ne fait alors
+ * aucun accès à la base. Les méthodes d'écriture invalident les entrées concernées.
+ * Les entrées expirent après {@link #DEFAULT_TTL_MS} pour prendre en compte les
+ * modifications faites depuis un autre poste.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class CachingStoreAccessDAO implements StoreAccessDAO {
+    public static final long DEFAULT_TTL_MS = 60 * 1000;
+
+    private static class Entry {
+        final int[] storeIds;
+        final long loadedAt;
+
+        Entry(int[] storeIds, long loadedAt) {
+            this.storeIds = storeIds;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    private final StoreAccessDAO delegate;
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Integer, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheStats stats = new CacheStats();
+
+    public CachingStoreAccessDAO(StoreAccessDAO delegate) {
+        this(delegate, DEFAULT_TTL_MS);
+    }
+
+    /**
+     * @param ttlMillis Durée de vie d'une entrée, 0 pour ne jamais expirer
+     */
+    public CachingStoreAccessDAO(StoreAccessDAO delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    @Override
+    public boolean hasAccess(int userId, int storeId) {
+        return Arrays.binarySearch(storeIdsFor(userId), storeId) >= 0;
+    }
+
+    @Override
+    public int[] getAccessibleStoreIds(int userId) {
+        return storeIdsFor(userId).clone();
+    }
+
+    @Override
+    public void preload(int userId) {
+        storeIdsFor(userId);
+    }
+
+    private int[] storeIdsFor(int userId) {
+        Entry entry = cache.get(userId);
+        if (entry != null && !isExpired(entry)) {
+            stats.recordHit();
+            return entry.storeIds;
+        }
+        stats.recordMiss();
+
+        long loadGeneration = generation.get();
+        Entry loaded = new Entry(delegate.getAccessibleStoreIds(userId), System.currentTimeMillis());
+        cache.put(userId, loaded);
+        // Une invalidation concurrente pendant le chargement rend l'entrée potentiellement périmée
+        if (generation.get() != loadGeneration) {
+            cache.remove(userId, loaded);
+        }
+        return loaded.storeIds;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttlMillis > 0 && System.currentTimeMillis() - entry.loadedAt > ttlMillis;
+    }
+
+    private void invalidateUser(int userId) {
+        generation.incrementAndGet();
+        cache.remove(userId);
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    @Override
+    public boolean addAccess(int userId, int storeId) {
+        try {
+            return delegate.addAccess(userId, storeId);
+        } finally {
+            invalidateUser(userId);
+        }
+    }
+
+    @Override
+    public boolean removeAccess(int userId, int storeId) {
+        try {
+            return delegate.removeAccess(userId, storeId);
+        } finally {
+            invalidateUser(userId);
+        }
+    }
+
+    @Override
+    public boolean removeAllAccessForUser(int userId) {
+        try {
+            return delegate.removeAllAccessForUser(userId);
+        } finally {
+            invalidateUser(userId);
+        }
+    }
+
+    @Override
+    public boolean removeAllAccessForStore(int storeId) {
+        try {
+            return delegate.removeAllAccessForStore(storeId);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public List<Store> getAccessibleStores(int userId) {
+        return delegate.getAccessibleStores(userId);
+    }
+
+    @Override
+    public List<UserSummary> getUsersWithAccess(int storeId) {
+        return delegate.getUsersWithAccess(storeId);
+    }
+
+    @Override
+    public Page<UserSummary> findUsersWithoutAccess(int storeId, String search, String cursor, int pageSize) {
+        return delegate.findUsersWithoutAccess(storeId, search, cursor, pageSize);
+    }
+
+    @Override
+    public Stream<StoreAccess> streamAll() {
+        return delegate.streamAll();
+    }
+}
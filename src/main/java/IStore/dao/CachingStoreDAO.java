@@ -0,0 +1,161 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import IStore.model.Store;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache en lecture des magasins, devant un autre StoreDAO.
+ * La table des magasins est petite et rarement modifiée : elle est chargée entière
+ * au premier accès, puis findById et findAll sont servis depuis la mémoire jusqu'à
+ * la prochaine écriture ou l'expiration du TTL.
+ * findByName et nameExists vont toujours au DAO délégué : ils incluent les magasins
+ * marqués supprimés, absents de findAll, dont le nom reste réservé jusqu'à la purge.
+ * Les magasins retournés sont des copies, modifiables sans affecter le cache.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class CachingStoreDAO implements StoreDAO {
+    public static final long DEFAULT_TTL_MS = 5 * 60 * 1000;
+
+    private static class Snapshot {
+        final List<Store> all;
+        final Map<Integer, Store> byId = new HashMap<>();
+        final long loadedAt;
+
+        Snapshot(List<Store> stores, long loadedAt) {
+            this.all = stores;
+            this.loadedAt = loadedAt;
+            for (Store store : stores) {
+                byId.put(store.getId(), store);
+            }
+        }
+    }
+
+    private final StoreDAO delegate;
+    private final long ttlMillis;
+    private final AtomicLong generation = new AtomicLong();
+    private final CacheStats stats = new CacheStats();
+    private volatile Snapshot snapshot;
+
+    public CachingStoreDAO(StoreDAO delegate) {
+        this(delegate, DEFAULT_TTL_MS);
+    }
+
+    /**
+     * @param ttlMillis Durée de vie du cache, 0 pour ne jamais expirer
+     */
+    public CachingStoreDAO(StoreDAO delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Vide le cache ; le prochain accès rechargera les magasins
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        snapshot = null;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && (ttlMillis <= 0 || System.currentTimeMillis() - current.loadedAt <= ttlMillis)) {
+            stats.recordHit();
+            return current;
+        }
+        stats.recordMiss();
+
+        long loadGeneration = generation.get();
+        List<Store> stores = delegate.findAll();
+        Snapshot loaded = new Snapshot(stores, System.currentTimeMillis());
+        // Une liste vide peut aussi signaler une erreur de lecture : elle n'est pas conservée
+        if (!stores.isEmpty() && generation.get() == loadGeneration) {
+            snapshot = loaded;
+            if (generation.get() != loadGeneration) {
+                snapshot = null;
+            }
+        }
+        return loaded;
+    }
+
+    private static Store copy(Store store) {
+        return new Store(store.getId(), store.getName());
+    }
+
+    @Override
+    public Optional<Store> findById(int id) {
+        return Optional.ofNullable(snapshot().byId.get(id)).map(CachingStoreDAO::copy);
+    }
+
+    @Override
+    public Optional<Store> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public boolean nameExists(String name) {
+        return delegate.nameExists(name);
+    }
+
+    @Override
+    public List<Store> findAll() {
+        return snapshot().all.stream().map(CachingStoreDAO::copy).toList();
+    }
+
+    @Override
+    public Page<Store> findPage(String cursor, int pageSize) {
+        return delegate.findPage(cursor, pageSize);
+    }
+
+    @Override
+    public Store create(Store store) {
+        try {
+            return delegate.create(store);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean update(Store store) {
+        try {
+            return delegate.update(store);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public boolean markDeleted(int id) {
+        try {
+            return delegate.markDeleted(id);
+        } finally {
+            invalidate();
+        }
+    }
+
+    @Override
+    public List<Integer> findMarkedDeletedIds() {
+        return delegate.findMarkedDeletedIds();
+    }
+
+    @Override
+    public boolean delete(int id) {
+        try {
+            return delegate.delete(id);
+        } finally {
+            invalidate();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package IStore.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Migration de données sur une grande table, appliquée par lots.
+ * Chaque lot est une transaction courte, validée avant le suivant : les verrous
+ * ne sont tenus que le temps d'un lot et l'application reste utilisable pendant la migration.
+ * Un lot doit ne traiter que les lignes pas encore migrées, pour qu'une reprise après
+ * interruption reparte là où elle s'était arrêtée.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public abstract class ChunkedMigration implements Migration {
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+
+    private final int version;
+    private final String description;
+    private final int chunkSize;
+
+    protected ChunkedMigration(int version, String description) {
+        this(version, description, DEFAULT_CHUNK_SIZE);
+    }
+
+    protected ChunkedMigration(int version, String description, int chunkSize) {
+        this.version = version;
+        this.description = description;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int getVersion() { return version; }
+
+    @Override
+    public String getDescription() { return description; }
+
+    /**
+     * Prépare le schéma avant les lots (ex. ajout de colonne). Ne fait rien par défaut.
+     */
+    protected void prepare(Connection connection) throws SQLException {
+    }
+
+    /**
+     * Traite au plus {@code chunkSize} lignes
+     * @return Le nombre de lignes traitées ; moins que {@code chunkSize} termine la migration
+     */
+    protected abstract int applyChunk(Connection connection, int chunkSize) throws SQLException;
+
+    @Override
+    public final void apply(Connection connection) throws SQLException {
+        prepare(connection);
+
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            long total = 0;
+            int processed;
+            do {
+                processed = applyChunk(connection, chunkSize);
+                connection.commit();
+                total += processed;
+                if (processed > 0) {
+                    System.out.println("Migration V" + version + ": " + total + " lignes traitées");
+                }
+            } while (processed >= chunkSize);
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
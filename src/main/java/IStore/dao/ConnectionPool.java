@@ -0,0 +1,406 @@
+package IStore.dao;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool de connexions JDBC borné et thread-safe.
+ * Chaque opération DAO emprunte une connexion via {@link #borrow()} et la rend
+ * en appelant {@code close()} sur la connexion obtenue.
+ * Chaque connexion physique peut garder ses PreparedStatement dans un
+ * {@link StatementCache}, conservé d'un emprunt à l'autre.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Fabrique de connexions physiques
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    /**
+     * Instantané des métriques du pool
+     */
+    public static class Stats {
+        private final int active;
+        private final int idle;
+        private final long borrowCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long timeoutCount;
+
+        public Stats(int active, int idle, long borrowCount, long totalWaitNanos, long maxWaitNanos, long timeoutCount) {
+            this.active = active;
+            this.idle = idle;
+            this.borrowCount = borrowCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.timeoutCount = timeoutCount;
+        }
+
+        public int getActive() { return active; }
+        public int getIdle() { return idle; }
+        public long getBorrowCount() { return borrowCount; }
+        public long getTotalWaitNanos() { return totalWaitNanos; }
+        public long getMaxWaitNanos() { return maxWaitNanos; }
+        public long getTimeoutCount() { return timeoutCount; }
+
+        public double getAverageWaitMillis() {
+            return borrowCount == 0 ? 0 : totalWaitNanos / 1_000_000.0 / borrowCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Pool{active=" + active + ", idle=" + idle + ", borrows=" + borrowCount
+                + ", avgWaitMs=" + String.format("%.3f", getAverageWaitMillis())
+                + ", maxWaitMs=" + maxWaitNanos / 1_000_000 + ", timeouts=" + timeoutCount + "}";
+        }
+    }
+
+    private static class IdleConnection {
+        final Connection physical;
+        final long idleSince;
+
+        IdleConnection(Connection physical, long idleSince) {
+            this.physical = physical;
+            this.idleSince = idleSince;
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int minSize;
+    private final int maxSize;
+    private final long idleTimeoutMillis;
+    private final long borrowTimeoutMillis;
+    private final int validationTimeoutSeconds;
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<IdleConnection> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CacheStats statementStats = new CacheStats();
+    // Clés comparées par identité : le cache vit aussi longtemps que la connexion physique
+    private final Map<Connection, StatementCache> statementCaches = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final ScheduledExecutorService evictor;
+
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds) {
+        this(factory, minSize, maxSize, idleTimeoutMillis, borrowTimeoutMillis, validationTimeoutSeconds, 0);
+    }
+
+    /**
+     * @param statementCacheSize Nombre de PreparedStatement gardés par connexion physique (LRU),
+     *                           0 pour désactiver le cache
+     */
+    public ConnectionPool(ConnectionFactory factory, int minSize, int maxSize,
+                          long idleTimeoutMillis, long borrowTimeoutMillis, int validationTimeoutSeconds,
+                          int statementCacheSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("Tailles de pool invalides: min=" + minSize + ", max=" + maxSize);
+        }
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "istore-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (idleTimeoutMillis > 0) {
+            long period = Math.max(1000, idleTimeoutMillis / 2);
+            evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Ouvre les connexions minimales du pool
+     * @throws SQLException si une connexion ne peut pas être établie
+     */
+    public void warmUp() throws SQLException {
+        while (idleCount.get() < minSize) {
+            offerIdle(factory.create());
+        }
+    }
+
+    /**
+     * Emprunte une connexion. La connexion retournée doit être fermée pour être rendue au pool.
+     * @return Une connexion valide
+     * @throws SQLException si le pool est fermé, saturé au-delà du délai d'attente ou si la connexion échoue
+     */
+    public Connection borrow() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException("Le pool de connexions est fermé");
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException("Aucune connexion disponible après " + borrowTimeoutMillis + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Attente d'une connexion interrompue", e);
+        }
+        recordWait(System.nanoTime() - start);
+
+        try {
+            Connection physical = takeValidIdle();
+            if (physical == null) {
+                physical = factory.create();
+            }
+            activeCount.incrementAndGet();
+            return wrap(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Retourne les métriques courantes du pool
+     */
+    public Stats getStats() {
+        return new Stats(activeCount.get(), idleCount.get(), borrowCount.get(),
+            totalWaitNanos.get(), maxWaitNanos.get(), timeoutCount.get());
+    }
+
+    /**
+     * Succès/échecs du cache de PreparedStatement, toutes connexions confondues
+     */
+    public CacheStats getStatementCacheStats() {
+        return statementStats;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Ferme le pool et toutes les connexions inactives
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            evictor.shutdownNow();
+            IdleConnection entry;
+            while ((entry = idle.pollFirst()) != null) {
+                idleCount.decrementAndGet();
+                closeQuietly(entry.physical);
+            }
+        }
+    }
+
+    private Connection takeValidIdle() {
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            idleCount.decrementAndGet();
+            if (isValid(entry.physical)) {
+                return entry.physical;
+            }
+            closeQuietly(entry.physical);
+        }
+        return null;
+    }
+
+    private void giveBack(Connection physical) {
+        activeCount.decrementAndGet();
+        try {
+            if (closed.get() || !resetState(physical)) {
+                closeQuietly(physical);
+            } else {
+                offerIdle(physical);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void offerIdle(Connection physical) {
+        // LIFO : les connexions les plus récentes sont réutilisées en premier,
+        // les plus anciennes vieillissent en fin de file et sont évincées.
+        idle.offerFirst(new IdleConnection(physical, System.currentTimeMillis()));
+        idleCount.incrementAndGet();
+    }
+
+    /**
+     * Remet la connexion dans un état neutre avant réutilisation
+     */
+    private boolean resetState(Connection physical) {
+        try {
+            if (physical.isClosed()) {
+                return false;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean isValid(Connection physical) {
+        try {
+            return physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void evictIdle() {
+        long now = System.currentTimeMillis();
+        List<IdleConnection> expired = new ArrayList<>();
+        Iterator<IdleConnection> it = idle.descendingIterator();
+        while (it.hasNext() && idleCount.get() - expired.size() > minSize) {
+            IdleConnection entry = it.next();
+            if (now - entry.idleSince < idleTimeoutMillis) {
+                break;
+            }
+            expired.add(entry);
+        }
+        for (IdleConnection entry : expired) {
+            if (idle.removeFirstOccurrence(entry)) {
+                idleCount.decrementAndGet();
+                closeQuietly(entry.physical);
+            }
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private void closeQuietly(Connection physical) {
+        statementCaches.remove(physical);
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la fermeture d'une connexion: " + e.getMessage());
+        }
+    }
+
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+            ConnectionPool.class.getClassLoader(),
+            new Class<?>[]{Connection.class},
+            new PooledConnectionHandler(physical, statementCache(physical)));
+    }
+
+    private StatementCache statementCache(Connection physical) {
+        if (statementCacheSize == 0) {
+            return null;
+        }
+        return statementCaches.computeIfAbsent(physical, c -> new StatementCache(c, statementCacheSize, statementStats));
+    }
+
+    /**
+     * Intercepte close() pour rendre la connexion au pool au lieu de la fermer,
+     * et prepareStatement() pour servir les instructions depuis le cache de la connexion
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private final StatementCache statements;
+        private boolean returned;
+
+        PooledConnectionHandler(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        giveBack(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(physical)) {
+                        return physical;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + "]";
+                default:
+                    break;
+            }
+            if (returned) {
+                throw new SQLException("La connexion a déjà été rendue au pool");
+            }
+            if (statements != null && method.getName().equals("prepareStatement")) {
+                PreparedStatement cached = prepareCached((Connection) proxy, method, args);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Seules les formes {@code prepareStatement(sql)} et {@code prepareStatement(sql, autoGeneratedKeys)}
+         * passent par le cache ; les autres vont directement à la connexion physique
+         */
+        private PreparedStatement prepareCached(Connection owner, Method method, Object[] args) throws SQLException {
+            Class<?>[] types = method.getParameterTypes();
+            if (types.length == 1) {
+                return statements.prepare((String) args[0], -1, owner);
+            }
+            if (types.length == 2 && types[1] == int.class) {
+                return statements.prepare((String) args[0], (Integer) args[1], owner);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package IStore.dao;
+
+import IStore.dao.memory.InMemoryDAOFactory;
+
+/**
+ * Fabrique des DAO. Le moteur de stockage est choisi au démarrage par la propriété
+ * système {@code istore.backend} : {@code mysql} (par défaut) ou {@code memory}
+ * (stockage en mémoire, sans serveur, pour les tests et les mesures de performance).
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public abstract class DAOFactory {
+    public static final String BACKEND_PROPERTY = "istore.backend";
+    public static final String BACKEND_MYSQL = "mysql";
+    public static final String BACKEND_MEMORY = "memory";
+
+    private static DAOFactory instance;
+
+    private ItemNameIndex itemNameIndex;
+
+    public static synchronized DAOFactory getInstance() {
+        if (instance == null) {
+            instance = create(System.getProperty(BACKEND_PROPERTY, BACKEND_MYSQL));
+        }
+        return instance;
+    }
+
+    /**
+     * Remplace la fabrique courante (tests, bancs de mesure)
+     */
+    public static synchronized void setInstance(DAOFactory factory) {
+        instance = factory;
+    }
+
+    public static DAOFactory create(String backend) {
+        return switch (backend.toLowerCase().trim()) {
+            case BACKEND_MYSQL -> new MySqlDAOFactory();
+            case BACKEND_MEMORY -> new InMemoryDAOFactory();
+            default -> throw new IllegalArgumentException("Moteur de stockage inconnu: " + backend);
+        };
+    }
+
+    public abstract ItemDAO getItemDAO();
+
+    public abstract UserDAO getUserDAO();
+
+    public abstract StoreDAO getStoreDAO();
+
+    public abstract StoreAccessDAO getStoreAccessDAO();
+
+    public abstract WhitelistDAO getWhitelistDAO();
+
+    /**
+     * Index des noms d'articles, partagé par les services de cette fabrique
+     */
+    public synchronized ItemNameIndex getItemNameIndex() {
+        if (itemNameIndex == null) {
+            itemNameIndex = new ItemNameIndex(getItemDAO());
+        }
+        return itemNameIndex;
+    }
+
+    /**
+     * Libère les ressources du moteur (connexions, ...)
+     */
+    public void close() {
+    }
+}
@@ -1,9 +1,12 @@
 package IStore.dao;
 
+import com.mysql.cj.jdbc.JdbcConnection;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 
 public class DatabaseManager {
     private static final String DB_HOST = "localhost";
@@ -13,16 +16,32 @@ public class DatabaseManager {
     private static final String DB_PASSWORD = "";
 
     private static final String DB_URL = "jdbc:mysql://" + DB_HOST + ":" + DB_PORT + "/" + DB_NAME
-            + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
+            + "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC"
+            + "&rewriteBatchedStatements=true"
+            // Instructions préparées côté serveur : une instruction gardée dans le cache du pool
+            // n'est analysée et préparée qu'une fois par connexion
+            + "&useServerPrepStmts=true";
+
+    private static final int POOL_MIN_SIZE = 2;
+    private static final int POOL_MAX_SIZE = 10;
+    private static final long POOL_IDLE_TIMEOUT_MS = 5 * 60 * 1000;
+    private static final long POOL_BORROW_TIMEOUT_MS = 10 * 1000;
+    private static final int POOL_VALIDATION_TIMEOUT_S = 2;
+    private static final int POOL_STATEMENT_CACHE_SIZE = 64;
 
     private static DatabaseManager instance;
-    private Connection connection;
+    private final ConnectionPool pool;
 
     private DatabaseManager() {
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
-            connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-            createTables();
+            pool = new ConnectionPool(
+                () -> DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD),
+                POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_IDLE_TIMEOUT_MS, POOL_BORROW_TIMEOUT_MS, POOL_VALIDATION_TIMEOUT_S,
+                POOL_STATEMENT_CACHE_SIZE);
+            pool.warmUp();
+            migrateSchema();
             System.out.println("Connexion à MySQL établie avec succès.");
         } catch (ClassNotFoundException e) {
             System.err.println("Driver MySQL non trouvé: " + e.getMessage());
@@ -40,78 +59,56 @@ public class DatabaseManager {
         return instance;
     }
 
-    public Connection getConnection() {
-        try {
-            if (connection == null || connection.isClosed()) {
-                connection = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la récupération de la connexion: " + e.getMessage());
-        }
-        return connection;
+    /**
+     * Emprunte une connexion au pool. L'appelant doit la fermer (try-with-resources)
+     * pour la rendre au pool.
+     */
+    public Connection getConnection() throws SQLException {
+        return pool.borrow();
     }
 
-    private void createTables() {
-        try (Statement stmt = connection.createStatement()) {
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS users (
-                    id INT AUTO_INCREMENT PRIMARY KEY,
-                    email VARCHAR(255) UNIQUE NOT NULL,
-                    pseudo VARCHAR(100) NOT NULL,
-                    password VARCHAR(255) NOT NULL,
-                    role VARCHAR(50) NOT NULL DEFAULT 'EMPLOYEE'
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
-            """);
-
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS stores (
-                    id INT AUTO_INCREMENT PRIMARY KEY,
-                    name VARCHAR(255) UNIQUE NOT NULL
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
-            """);
-
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS items (
-                    id INT AUTO_INCREMENT PRIMARY KEY,
-                    name VARCHAR(255) NOT NULL,
-                    price DECIMAL(10,2) NOT NULL DEFAULT 0,
-                    quantity INT NOT NULL DEFAULT 0,
-                    store_id INT NOT NULL,
-                    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
-            """);
+    /**
+     * Prépare une requête construite à la volée (liste IN de taille variable, filtres optionnels).
+     * Chaque forme distincte évincerait une requête fréquente du cache d'instructions : elle le
+     * contourne, et elle est préparée côté client, une préparation serveur jamais réutilisée
+     * coûtant un aller-retour de plus avec useServerPrepStmts.
+     */
+    static PreparedStatement prepareDynamic(Connection connection, String sql) throws SQLException {
+        if (connection.isWrapperFor(JdbcConnection.class)) {
+            return connection.unwrap(JdbcConnection.class).clientPrepareStatement(sql);
+        }
+        return connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+    }
 
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS whitelist (
-                    id INT AUTO_INCREMENT PRIMARY KEY,
-                    email VARCHAR(255) UNIQUE NOT NULL
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
-            """);
+    /**
+     * Retourne les métriques du pool (temps d'attente, connexions actives/inactives)
+     */
+    public ConnectionPool.Stats getPoolStats() {
+        return pool.getStats();
+    }
 
-            stmt.execute("""
-                CREATE TABLE IF NOT EXISTS store_access (
-                    user_id INT NOT NULL,
-                    store_id INT NOT NULL,
-                    PRIMARY KEY (user_id, store_id),
-                    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-                    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE
-                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
-            """);
+    /**
+     * Retourne le taux de succès du cache de PreparedStatement des connexions du pool
+     */
+    public CacheStats getStatementCacheStats() {
+        return pool.getStatementCacheStats();
+    }
 
-            System.out.println("Tables MySQL créées avec succès.");
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la création des tables: " + e.getMessage());
+    /**
+     * Applique les migrations en attente. Si le schéma est à jour,
+     * ne coûte qu'une requête de lecture de version.
+     */
+    private void migrateSchema() throws SQLException {
+        try (Connection connection = getConnection()) {
+            int version = new SchemaMigrator(Migrations.all()).migrate(connection);
+            System.out.println("Schéma MySQL à jour (version " + version + ").");
         }
     }
 
     public void closeConnection() {
-        try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                System.out.println("Connexion MySQL fermée.");
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la fermeture de la connexion: " + e.getMessage());
-        }
+        System.out.println("Fermeture du pool MySQL: " + pool.getStats()
+            + ", instructions " + pool.getStatementCacheStats());
+        pool.close();
+        System.out.println("Connexion MySQL fermée.");
     }
 }
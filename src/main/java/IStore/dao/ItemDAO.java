@@ -1,142 +1,161 @@
 package IStore.dao;
 
 import IStore.model.Item;
+import IStore.model.ItemQuery;
+import IStore.model.Page;
 
-import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-public class ItemDAO {
-    private final Connection connection;
+/**
+ * Accès aux articles, indépendant du moteur de stockage.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public interface ItemDAO {
+    int DEFAULT_BATCH_SIZE = 1000;
 
-    public ItemDAO() {
-        this.connection = DatabaseManager.getInstance().getConnection();
-    }
+    Item create(Item item);
 
-    public Item create(Item item) {
-        String sql = "INSERT INTO items (name, price, quantity, store_id) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, item.getName().trim());
-            pstmt.setDouble(2, item.getPrice());
-            pstmt.setInt(3, Math.max(0, item.getQuantity()));
-            pstmt.setInt(4, item.getStoreId());
-            pstmt.executeUpdate();
-
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    item.setId(generatedKeys.getInt(1));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la création de l'article: " + e.getMessage());
-            return null;
-        }
-        return item;
+    /**
+     * Crée plusieurs articles par lots de {@link #DEFAULT_BATCH_SIZE}
+     * @see #createAll(List, int)
+     */
+    default List<Item> createAll(List<Item> items) {
+        return createAll(items, DEFAULT_BATCH_SIZE);
     }
 
-    public Optional<Item> findById(int id) {
-        String sql = "SELECT * FROM items WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToItem(rs));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la recherche de l'article: " + e.getMessage());
-        }
-        return Optional.empty();
-    }
+    /**
+     * Crée plusieurs articles par lots de {@code batchSize} lignes, IDs affectés dans l'ordre
+     * @return Une liste de même taille que l'entrée : l'article créé, ou null pour une ligne en échec
+     */
+    List<Item> createAll(List<Item> items, int batchSize);
 
-    public List<Item> findByStoreId(int storeId) {
-        List<Item> items = new ArrayList<>();
-        String sql = "SELECT * FROM items WHERE store_id = ? ORDER BY name";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, storeId);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    items.add(mapResultSetToItem(rs));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
-        }
-        return items;
-    }
+    Optional<Item> findById(int id);
 
-    public List<Item> findAll() {
-        List<Item> items = new ArrayList<>();
-        String sql = "SELECT * FROM items ORDER BY name";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                items.add(mapResultSetToItem(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
-        }
-        return items;
-    }
+    /**
+     * Article par ID, seulement si son magasin est accessible à {@code userId}
+     * (contrôle d'accès dans la même requête)
+     */
+    Optional<Item> findByIdForUser(int id, int userId);
 
-    public boolean update(Item item) {
-        String sql = "UPDATE items SET name = ?, price = ?, quantity = ?, store_id = ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, item.getName().trim());
-            pstmt.setDouble(2, item.getPrice());
-            pstmt.setInt(3, Math.max(0, item.getQuantity()));
-            pstmt.setInt(4, item.getStoreId());
-            pstmt.setInt(5, item.getId());
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la mise à jour de l'article: " + e.getMessage());
-            return false;
-        }
-    }
+    List<Item> findByStoreId(int storeId);
 
-    public boolean updateQuantity(int id, int newQuantity) {
-        String sql = "UPDATE items SET quantity = ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, Math.max(0, newQuantity));
-            pstmt.setInt(2, id);
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la mise à jour de la quantité: " + e.getMessage());
-            return false;
-        }
-    }
+    /**
+     * Articles du magasin triés par nom, seulement si le magasin est accessible à {@code userId}
+     * (contrôle d'accès dans la même requête)
+     * @return Les articles, ou une liste vide sans accès
+     */
+    List<Item> findByStoreIdForUser(int storeId, int userId);
 
-    public boolean delete(int id) {
-        String sql = "DELETE FROM items WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la suppression de l'article: " + e.getMessage());
-            return false;
-        }
-    }
+    /**
+     * Articles dont l'ID est dans {@code ids}, en une seule requête
+     * @return Les articles dans l'ordre de {@code ids} ; les IDs inconnus sont ignorés
+     */
+    List<Item> findByIds(int[] ids);
+
+    /**
+     * Page d'articles d'un magasin triés par (nom, id)
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     */
+    Page<Item> findPageByStoreId(int storeId, String cursor, int pageSize);
+
+    /**
+     * Page de tous les articles triés par (nom, id)
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     */
+    Page<Item> findPage(String cursor, int pageSize);
 
-    public boolean deleteByStoreId(int storeId) {
-        String sql = "DELETE FROM items WHERE store_id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, storeId);
-            pstmt.executeUpdate();
-            return true;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la suppression des articles: " + e.getMessage());
-            return false;
+    /**
+     * Recherche d'un nom d'article dans tous les magasins (non supprimés), en une requête,
+     * triée par (magasin, nom, id) pour regrouper les résultats par magasin
+     * @param text Texte contenu dans le nom, insensible à la casse
+     * @param userId Restreint aux magasins accessibles à cet utilisateur, ou null pour tous
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     */
+    Page<Item> searchAcrossStores(String text, Integer userId, String cursor, int pageSize);
+
+    /**
+     * Quantité totale des articles dont le nom contient {@code text}, par magasin
+     * @param text Texte contenu dans le nom, insensible à la casse
+     * @param storeIds Les magasins à totaliser
+     * @return Le total par ID de magasin, absent pour un magasin sans article correspondant
+     */
+    Map<Integer, Integer> sumQuantityByStore(String text, int[] storeIds);
+
+    /**
+     * Nombre d'articles correspondant aux critères
+     * @return Le nombre d'articles, ou -1 en cas d'erreur
+     */
+    int count(ItemQuery query);
+
+    /**
+     * Articles correspondant aux critères, dans l'ordre demandé, à partir de la position
+     * {@code offset}. Adapté à l'accès aléatoire d'une liste virtualisée ; pour un parcours
+     * séquentiel, préférer {@link #findPageByStoreId}.
+     */
+    List<Item> find(ItemQuery query, int offset, int limit);
+
+    /**
+     * Position de l'article dans le résultat de {@code query}, dans l'ordre demandé
+     * @return La position à partir de 0, ou -1 si l'article ne correspond pas aux critères ou en cas d'erreur
+     */
+    int indexOf(ItemQuery query, int itemId);
+
+    List<Item> findAll();
+
+    /**
+     * Flux sur tous les articles, à fermer après usage
+     */
+    Stream<Item> streamAll();
+
+    /**
+     * Parcourt tous les articles sans les charger en mémoire
+     * @return false si la lecture a échoué
+     */
+    default boolean forEach(Consumer<? super Item> action) {
+        try (Stream<Item> items = streamAll()) {
+            items.forEach(action);
         }
+        return true;
     }
 
-    private Item mapResultSetToItem(ResultSet rs) throws SQLException {
-        return new Item(
-            rs.getInt("id"),
-            rs.getString("name"),
-            rs.getDouble("price"),
-            rs.getInt("quantity"),
-            rs.getInt("store_id")
-        );
-    }
+    boolean update(Item item);
+
+    boolean updateQuantity(int id, int newQuantity);
+
+    /**
+     * Ajoute {@code amount} au stock de manière atomique
+     * @param userId Restreint aux magasins accessibles à cet utilisateur, ou null pour tous
+     * @return La nouvelle quantité, ou vide si l'article n'existe pas ou n'est pas accessible
+     */
+    OptionalInt increaseQuantity(int id, int amount, Integer userId);
+
+    /**
+     * Retire {@code amount} du stock de manière atomique, seulement si le stock est suffisant
+     * @param userId Restreint aux magasins accessibles à cet utilisateur, ou null pour tous
+     * @return La nouvelle quantité, ou vide si l'article n'existe pas, n'est pas accessible
+     *         ou si le stock est insuffisant
+     */
+    OptionalInt decreaseQuantityIfAvailable(int id, int amount, Integer userId);
+
+    boolean delete(int id);
+
+    boolean deleteByStoreId(int storeId);
+
+    /**
+     * Supprime au plus {@code limit} articles du magasin, dans une transaction courte
+     * @return Le nombre d'articles supprimés, ou -1 en cas d'erreur
+     */
+    int deleteChunkByStoreId(int storeId, int limit);
+
+    /**
+     * @return Le nombre d'articles du magasin, ou -1 en cas d'erreur
+     */
+    int countByStoreId(int storeId);
 }
@@ -0,0 +1,116 @@
+package IStore.dao;
+
+import IStore.model.Item;
+import IStore.util.TrigramIndex;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Index de recherche des noms d'articles, un {@link TrigramIndex} par magasin.
+ * L'index d'un magasin est construit à sa première recherche, puis tenu à jour par
+ * les écritures du service d'inventaire ; les magasins jamais cherchés ne coûtent rien.
+ * La lecture en base se fait hors verrou : les écritures reçues pendant la construction
+ * sont notées puis rejouées, dans l'ordre, avant la publication de l'index.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ItemNameIndex {
+    private final ItemDAO itemDAO;
+    // Accès protégés par this
+    private final Map<Integer, TrigramIndex> byStore = new HashMap<>();
+    private final Map<Integer, List<Consumer<TrigramIndex>>> pendingWrites = new HashMap<>();
+
+    public ItemNameIndex(ItemDAO itemDAO) {
+        this.itemDAO = itemDAO;
+    }
+
+    /**
+     * Index du magasin, construit au premier accès
+     */
+    public TrigramIndex forStore(int storeId) {
+        List<Consumer<TrigramIndex>> log;
+        synchronized (this) {
+            TrigramIndex index = byStore.get(storeId);
+            if (index != null) {
+                return index;
+            }
+            // Une construction déjà en cours partage son journal avec celle-ci
+            log = pendingWrites.computeIfAbsent(storeId, id -> new ArrayList<>());
+        }
+
+        TrigramIndex built = new TrigramIndex();
+        for (Item item : itemDAO.findByStoreId(storeId)) {
+            built.put(item.getId(), item.getName());
+        }
+
+        synchronized (this) {
+            TrigramIndex published = byStore.get(storeId);
+            if (published != null) {
+                return published;
+            }
+            if (pendingWrites.get(storeId) != log) {
+                // Magasin invalidé pendant la lecture : l'index sert à cette recherche seulement
+                return built;
+            }
+            pendingWrites.remove(storeId);
+            for (Consumer<TrigramIndex> write : log) {
+                write.accept(built);
+            }
+            byStore.put(storeId, built);
+            return built;
+        }
+    }
+
+    /**
+     * Prend en compte un article créé ou modifié (y compris un changement de magasin)
+     */
+    public synchronized void itemSaved(Item item) {
+        int id = item.getId();
+        String name = item.getName();
+        for (Map.Entry<Integer, TrigramIndex> entry : byStore.entrySet()) {
+            if (entry.getKey() != item.getStoreId()) {
+                entry.getValue().remove(id);
+            }
+        }
+        TrigramIndex index = byStore.get(item.getStoreId());
+        if (index != null) {
+            index.put(id, name);
+        }
+        for (Map.Entry<Integer, List<Consumer<TrigramIndex>>> entry : pendingWrites.entrySet()) {
+            if (entry.getKey() == item.getStoreId()) {
+                entry.getValue().add(built -> built.put(id, name));
+            } else {
+                entry.getValue().add(built -> built.remove(id));
+            }
+        }
+    }
+
+    /**
+     * Prend en compte un article supprimé
+     */
+    public synchronized void itemRemoved(int itemId) {
+        for (TrigramIndex index : byStore.values()) {
+            index.remove(itemId);
+        }
+        for (List<Consumer<TrigramIndex>> log : pendingWrites.values()) {
+            log.add(built -> built.remove(itemId));
+        }
+    }
+
+    /**
+     * Oublie l'index d'un magasin (suppression du magasin, modification hors du service)
+     */
+    public synchronized void invalidateStore(int storeId) {
+        byStore.remove(storeId);
+        pendingWrites.remove(storeId);
+    }
+
+    public synchronized boolean isBuilt(int storeId) {
+        return byStore.containsKey(storeId);
+    }
+}
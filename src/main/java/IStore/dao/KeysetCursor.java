@@ -0,0 +1,86 @@
+package IStore.dao;
+
+import IStore.model.Page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Position de reprise d'une pagination keyset : la clé de tri de la dernière ligne
+ * lue et son ID (départage des égalités).
+ * Encodée en Base64 pour rester opaque pour les appelants.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public final class KeysetCursor {
+    private final String key;
+    private final int id;
+
+    public KeysetCursor(String key, int id) {
+        this.key = key;
+        this.id = id;
+    }
+
+    /**
+     * Curseur trié par (magasin, nom, id) : la clé est « magasin:nom »
+     */
+    public static KeysetCursor ofStoreAndName(int storeId, String name, int id) {
+        return new KeysetCursor(storeId + ":" + name, id);
+    }
+
+    public String getKey() { return key; }
+    public int getId() { return id; }
+
+    /**
+     * @throws IllegalArgumentException si la clé n'a pas été créée par {@link #ofStoreAndName}
+     */
+    public int getStoreIdOfKey() {
+        int separator = key.indexOf(':');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Curseur de pagination invalide");
+        }
+        return Integer.parseInt(key.substring(0, separator));
+    }
+
+    public String getNameOfKey() {
+        return key.substring(key.indexOf(':') + 1);
+    }
+
+    public String encode() {
+        String raw = id + ":" + (key == null ? "" : key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Décode un curseur produit par {@link #encode()}
+     * @return Le curseur, ou null si {@code cursor} est null ou vide (première page)
+     * @throws IllegalArgumentException si le curseur est mal formé
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new KeysetCursor(raw.substring(separator + 1), Integer.parseInt(raw.substring(0, separator)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Curseur de pagination invalide", e);
+        }
+    }
+
+    /**
+     * Construit une page à partir de {@code size + 1} lignes lues au plus :
+     * la ligne supplémentaire indique seulement qu'une page suivante existe.
+     */
+    public static <T> Page<T> toPage(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new Page<>(rows, null);
+        }
+        List<T> items = rows.subList(0, size);
+        return new Page<>(items, cursorOf.apply(items.get(size - 1)).encode());
+    }
+}
@@ -0,0 +1,40 @@
+package IStore.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Étape de migration du schéma, identifiée par un numéro de version croissant.
+ * Une migration doit être idempotente : en MySQL, le DDL valide implicitement
+ * la transaction et une migration interrompue peut être rejouée.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public interface Migration {
+    int getVersion();
+
+    String getDescription();
+
+    void apply(Connection connection) throws SQLException;
+
+    static Migration of(int version, String description, SqlAction action) {
+        return new Migration() {
+            @Override
+            public int getVersion() { return version; }
+
+            @Override
+            public String getDescription() { return description; }
+
+            @Override
+            public void apply(Connection connection) throws SQLException {
+                action.run(connection);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface SqlAction {
+        void run(Connection connection) throws SQLException;
+    }
+}
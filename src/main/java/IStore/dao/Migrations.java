@@ -0,0 +1,90 @@
+package IStore.dao;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Liste ordonnée des migrations du schéma IStore.
+ * Une nouvelle évolution du schéma s'ajoute en fin de liste avec la version suivante ;
+ * une migration déjà publiée ne doit jamais être modifiée.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public final class Migrations {
+
+    private Migrations() {}
+
+    public static List<Migration> all() {
+        return List.of(
+            Migration.of(1, "Tables initiales", Migrations::createBaseTables),
+            Migration.of(2, "Index secondaires items(store_id, name) et store_access(store_id)", connection -> {
+                SchemaMigrator.createIndexIfMissing(connection, "items", "idx_items_store_name", "(store_id, name)");
+                SchemaMigrator.createIndexIfMissing(connection, "store_access", "idx_store_access_store", "(store_id)");
+            }),
+            Migration.of(3, "Suppression différée des magasins (stores.deleted_at)", connection ->
+                SchemaMigrator.addColumnIfMissing(connection, "stores", "deleted_at", "TIMESTAMP NULL DEFAULT NULL")),
+            Migration.of(4, "Index de tri items(store_id, price) et items(store_id, quantity)", connection -> {
+                SchemaMigrator.createIndexIfMissing(connection, "items", "idx_items_store_price", "(store_id, price)");
+                SchemaMigrator.createIndexIfMissing(connection, "items", "idx_items_store_quantity", "(store_id, quantity)");
+            }),
+            Migration.of(5, "Index de recherche users(pseudo)", connection ->
+                SchemaMigrator.createIndexIfMissing(connection, "users", "idx_users_pseudo", "(pseudo)"))
+        );
+    }
+
+    /**
+     * Schéma de base. Utilise IF NOT EXISTS pour adopter les bases créées
+     * avant l'introduction des migrations.
+     */
+    private static void createBaseTables(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS users (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    email VARCHAR(255) COLLATE utf8mb4_unicode_ci UNIQUE NOT NULL,
+                    pseudo VARCHAR(100) NOT NULL,
+                    password VARCHAR(255) NOT NULL,
+                    role VARCHAR(50) NOT NULL DEFAULT 'EMPLOYEE'
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS stores (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255) COLLATE utf8mb4_unicode_ci UNIQUE NOT NULL
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS items (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    price DECIMAL(10,2) NOT NULL DEFAULT 0,
+                    quantity INT NOT NULL DEFAULT 0,
+                    store_id INT NOT NULL,
+                    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS whitelist (
+                    id INT AUTO_INCREMENT PRIMARY KEY,
+                    email VARCHAR(255) COLLATE utf8mb4_unicode_ci UNIQUE NOT NULL
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS store_access (
+                    user_id INT NOT NULL,
+                    store_id INT NOT NULL,
+                    PRIMARY KEY (user_id, store_id),
+                    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+                    FOREIGN KEY (store_id) REFERENCES stores(id) ON DELETE CASCADE
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+        }
+    }
+}
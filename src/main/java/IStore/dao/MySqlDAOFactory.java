@@ -0,0 +1,46 @@
+package IStore.dao;
+
+/**
+ * Fabrique des DAO MySQL. Les DAO sont sans état (une connexion est empruntée
+ * au pool à chaque opération) et partagés entre les services ; les magasins et
+ * les droits d'accès passent par un cache en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class MySqlDAOFactory extends DAOFactory {
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final StoreDAO storeDAO;
+    private final StoreAccessDAO storeAccessDAO;
+    private final WhitelistDAO whitelistDAO;
+
+    public MySqlDAOFactory() {
+        DatabaseManager.getInstance();
+        this.itemDAO = new MySqlItemDAO();
+        this.userDAO = new MySqlUserDAO();
+        this.storeDAO = new CachingStoreDAO(new MySqlStoreDAO());
+        this.storeAccessDAO = new CachingStoreAccessDAO(new MySqlStoreAccessDAO());
+        this.whitelistDAO = new MySqlWhitelistDAO();
+    }
+
+    @Override
+    public ItemDAO getItemDAO() { return itemDAO; }
+
+    @Override
+    public UserDAO getUserDAO() { return userDAO; }
+
+    @Override
+    public StoreDAO getStoreDAO() { return storeDAO; }
+
+    @Override
+    public StoreAccessDAO getStoreAccessDAO() { return storeAccessDAO; }
+
+    @Override
+    public WhitelistDAO getWhitelistDAO() { return whitelistDAO; }
+
+    @Override
+    public void close() {
+        DatabaseManager.getInstance().closeConnection();
+    }
+}
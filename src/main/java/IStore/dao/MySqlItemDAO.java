@@ -0,0 +1,672 @@
+package IStore.dao;
+
+import IStore.model.Item;
+import IStore.model.ItemQuery;
+import IStore.model.Page;
+import com.mysql.cj.jdbc.StatementImpl;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class MySqlItemDAO implements ItemDAO {
+    private static final String COLUMNS = RowMappings.ITEM.columns();
+    private static final String STREAM_ALL_SQL = "SELECT " + COLUMNS + " FROM items ORDER BY id";
+
+    private final DatabaseManager databaseManager;
+
+    public MySqlItemDAO() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Override
+    public Item create(Item item) {
+        String sql = "INSERT INTO items (name, price, quantity, store_id) VALUES (?, ?, ?, ?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, item);
+            pstmt.executeUpdate();
+
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    item.setId(generatedKeys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la création de l'article: " + e.getMessage());
+            return null;
+        }
+        return item;
+    }
+
+    /**
+     * Insère plusieurs articles par lots de {@code batchSize} lignes.
+     * Les IDs générés sont affectés aux articles dans l'ordre de la liste.
+     * Chaque lot est une transaction : si un lot échoue, il est annulé en entier (aucune ligne
+     * déjà envoyée ne reste insérée) puis ses lignes sont rejouées une à une pour isoler les
+     * lignes fautives sans interrompre le reste du chargement.
+     * @return Une liste de même taille que l'entrée : l'article créé, ou null pour une ligne en échec
+     */
+    @Override
+    public List<Item> createAll(List<Item> items, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("La taille de lot doit être positive: " + batchSize);
+        }
+        List<Item> results = new ArrayList<>(items.size());
+        String sql = "INSERT INTO items (name, price, quantity, store_id) VALUES (?, ?, ?, ?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            // Le pool rétablit l'autocommit au retour de la connexion
+            connection.setAutoCommit(false);
+            for (int from = 0; from < items.size(); from += batchSize) {
+                List<Item> chunk = items.subList(from, Math.min(from + batchSize, items.size()));
+                List<Item> created = new ArrayList<>(chunk.size());
+                try {
+                    for (Item item : chunk) {
+                        bindInsert(pstmt, item);
+                        pstmt.addBatch();
+                    }
+                    pstmt.executeBatch();
+                    try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                        for (Item item : chunk) {
+                            if (generatedKeys.next()) {
+                                item.setId(generatedKeys.getInt(1));
+                            }
+                            created.add(item);
+                        }
+                    }
+                } catch (BatchUpdateException e) {
+                    // Lignes déjà passées (lot réécrit en plusieurs INSERT, ou poursuivi après
+                    // l'erreur) annulées : le rejeu ne crée pas de doublon
+                    connection.rollback();
+                    pstmt.clearBatch();
+                    created.clear();
+                    for (Item item : chunk) {
+                        created.add(createSingle(pstmt, item));
+                    }
+                }
+                connection.commit();
+                results.addAll(created);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la création des articles: " + e.getMessage());
+            while (results.size() < items.size()) {
+                results.add(null);
+            }
+        }
+        return results;
+    }
+
+    private Item createSingle(PreparedStatement pstmt, Item item) {
+        try {
+            bindInsert(pstmt, item);
+            pstmt.executeUpdate();
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    item.setId(generatedKeys.getInt(1));
+                }
+            }
+            return item;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la création de l'article '" + item.getName() + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Item item) throws SQLException {
+        pstmt.setString(1, item.getName().trim());
+        pstmt.setDouble(2, item.getPrice());
+        pstmt.setInt(3, Math.max(0, item.getQuantity()));
+        pstmt.setInt(4, item.getStoreId());
+    }
+
+    @Override
+    public Optional<Item> findById(int id) {
+        String sql = "SELECT " + COLUMNS + " FROM items WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.ITEM.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche de l'article: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Item> findByIdForUser(int id, int userId) {
+        String sql = "SELECT " + RowMappings.ITEM.columns("i") + " FROM items i "
+            + "JOIN store_access sa ON sa.store_id = i.store_id AND sa.user_id = ? WHERE i.id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.ITEM.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche de l'article: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Item> findByStoreIdForUser(int storeId, int userId) {
+        List<Item> items = new ArrayList<>();
+        String sql = "SELECT " + RowMappings.ITEM.columns("i") + " FROM items i "
+            + "JOIN store_access sa ON sa.store_id = i.store_id AND sa.user_id = ? "
+            + "WHERE i.store_id = ? ORDER BY i.name";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, storeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        return items;
+    }
+
+    @Override
+    public List<Item> findByIds(int[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+        String sql = "SELECT " + COLUMNS + " FROM items WHERE id IN (" + String.join(", ", Collections.nCopies(ids.length, "?")) + ")";
+        Map<Integer, Item> byId = new HashMap<>();
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql)) {
+            for (int i = 0; i < ids.length; i++) {
+                pstmt.setInt(i + 1, ids[i]);
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper<Item> mapper = RowMappings.ITEM.compile(rs);
+                while (rs.next()) {
+                    Item item = mapper.mapRow(rs);
+                    byId.put(item.getId(), item);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        List<Item> items = new ArrayList<>(byId.size());
+        for (int id : ids) {
+            Item item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    @Override
+    public List<Item> findByStoreId(int storeId) {
+        List<Item> items = new ArrayList<>();
+        String sql = "SELECT " + COLUMNS + " FROM items WHERE store_id = ? ORDER BY name";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        return items;
+    }
+
+    /**
+     * Récupère une page d'articles d'un magasin, triés par (nom, id), par pagination keyset
+     * @param storeId L'ID du magasin
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     * @param pageSize La taille de page souhaitée
+     */
+    @Override
+    public Page<Item> findPageByStoreId(int storeId, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String sql = after == null
+            ? "SELECT " + COLUMNS + " FROM items WHERE store_id = ? ORDER BY name, id LIMIT ?"
+            : "SELECT " + COLUMNS + " FROM items WHERE store_id = ? AND (name > ? OR (name = ? AND id > ?)) ORDER BY name, id LIMIT ?";
+        List<Item> items = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            pstmt.setInt(index++, storeId);
+            if (after != null) {
+                pstmt.setString(index++, after.getKey());
+                pstmt.setString(index++, after.getKey());
+                pstmt.setInt(index++, after.getId());
+            }
+            pstmt.setInt(index, size + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(items, size, item -> new KeysetCursor(item.getName(), item.getId()));
+    }
+
+    /**
+     * Une seule requête : jointure sur store_access pour un employé, sans restriction pour un
+     * admin. Parcours de idx_items_store_name dans l'ordre (store_id, name, id).
+     */
+    @Override
+    public Page<Item> searchAcrossStores(String text, Integer userId, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        StringBuilder sql = new StringBuilder("SELECT " + RowMappings.ITEM.columns("i") + " FROM items i JOIN stores s ON s.id = i.store_id");
+        List<Object> params = new ArrayList<>();
+        if (userId != null) {
+            sql.append(" JOIN store_access sa ON sa.store_id = i.store_id AND sa.user_id = ?");
+            params.add(userId);
+        }
+        sql.append(" WHERE s.deleted_at IS NULL AND i.name LIKE ?");
+        params.add("%" + escapeLike(text.trim()) + "%");
+        if (after != null) {
+            int storeId = after.getStoreIdOfKey();
+            String name = after.getNameOfKey();
+            sql.append(" AND (i.store_id > ? OR (i.store_id = ? AND (i.name > ? OR (i.name = ? AND i.id > ?))))");
+            params.addAll(List.of(storeId, storeId, name, name, after.getId()));
+        }
+        sql.append(" ORDER BY i.store_id, i.name, i.id LIMIT ?");
+        params.add(size + 1);
+
+        List<Item> items = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql.toString())) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche d'articles: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(items, size,
+            item -> KeysetCursor.ofStoreAndName(item.getStoreId(), item.getName(), item.getId()));
+    }
+
+    @Override
+    public Map<Integer, Integer> sumQuantityByStore(String text, int[] storeIds) {
+        Map<Integer, Integer> totals = new HashMap<>();
+        if (storeIds.length == 0) {
+            return totals;
+        }
+        String sql = "SELECT store_id, SUM(quantity) FROM items WHERE store_id IN ("
+            + String.join(", ", Collections.nCopies(storeIds.length, "?")) + ") AND name LIKE ? GROUP BY store_id";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql)) {
+            int index = 1;
+            for (int storeId : storeIds) {
+                pstmt.setInt(index++, storeId);
+            }
+            pstmt.setString(index, "%" + escapeLike(text.trim()) + "%");
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.put(rs.getInt(1), rs.getInt(2));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du calcul des quantités par magasin: " + e.getMessage());
+        }
+        return totals;
+    }
+
+    @Override
+    public int count(ItemQuery query) {
+        List<Object> params = new ArrayList<>();
+        String sql = "SELECT COUNT(*) FROM items WHERE " + whereClause(query, params);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du comptage des articles: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Jointure différée : la sous-requête parcourt seulement l'index (store_id, colonne de tri)
+     * pour sauter {@code offset} lignes, puis seules les lignes de la page sont lues.
+     */
+    @Override
+    public List<Item> find(ItemQuery query, int offset, int limit) {
+        List<Object> params = new ArrayList<>();
+        String where = whereClause(query, params);
+        String order = orderClause(query, "");
+        String sql = "SELECT " + RowMappings.ITEM.columns("i") + " FROM items i JOIN (SELECT id FROM items WHERE " + where
+            + " ORDER BY " + order + " LIMIT ? OFFSET ?) page ON page.id = i.id ORDER BY " + orderClause(query, "i.");
+        params.add(limit);
+        params.add(offset);
+
+        List<Item> items = new ArrayList<>(limit);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche d'articles: " + e.getMessage());
+        }
+        return items;
+    }
+
+    /**
+     * Comptage sur l'index (store_id, colonne de tri) des articles classés avant la ligne
+     * {@code x}, dont les valeurs sont lues dans la même requête
+     */
+    @Override
+    public int indexOf(ItemQuery query, int itemId) {
+        List<Object> params = new ArrayList<>();
+        String matches = "x.id IN (SELECT id FROM items WHERE " + whereClause(query, params) + ")";
+        String op = query.isDescending() ? " > " : " < ";
+        String column = sortColumn(query);
+        String before = column == null
+            ? "id" + op + "x.id"
+            : "(" + column + op + "x." + column + " OR (" + column + " = x." + column + " AND id" + op + "x.id))";
+        String sql = "SELECT " + matches + ", (SELECT COUNT(*) FROM items WHERE " + whereClause(query, params)
+            + " AND " + before + ") FROM items x WHERE x.id = ?";
+        params.add(itemId);
+
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getBoolean(1) ? rs.getInt(2) : -1;
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du calcul de la position de l'article: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    private static String whereClause(ItemQuery query, List<Object> params) {
+        StringBuilder where = new StringBuilder("store_id = ?");
+        params.add(query.getStoreId());
+        if (query.getNameFilter() != null) {
+            // Préfixe : parcours de plage sur idx_items_store_name ; sous-chaîne : filtrée
+            // sur les seules lignes du magasin
+            where.append(" AND name LIKE ?");
+            String pattern = escapeLike(query.getNameFilter()) + "%";
+            params.add(query.getNameMatch() == ItemQuery.NameMatch.CONTAINS ? "%" + pattern : pattern);
+        }
+        // Bornes de prix et de quantité : parcours de plage sur idx_items_store_price / _quantity
+        appendRange(where, params, "price", query.getMinPrice(), query.getMaxPrice());
+        appendRange(where, params, "quantity", query.getMinQuantity(), query.getMaxQuantity());
+        return where.toString();
+    }
+
+    private static void appendRange(StringBuilder where, List<Object> params, String column, Object min, Object max) {
+        if (min != null) {
+            where.append(" AND ").append(column).append(" >= ?");
+            params.add(min);
+        }
+        if (max != null) {
+            where.append(" AND ").append(column).append(" <= ?");
+            params.add(max);
+        }
+    }
+
+    private static String orderClause(ItemQuery query, String alias) {
+        String direction = query.isDescending() ? " DESC" : "";
+        String column = sortColumn(query);
+        String byId = alias + "id" + direction;
+        return column == null ? byId : alias + column + direction + ", " + byId;
+    }
+
+    /**
+     * Colonne de tri principale, ou null pour un tri par ID seul
+     */
+    private static String sortColumn(ItemQuery query) {
+        return switch (query.getSort()) {
+            case NAME -> "name";
+            case PRICE -> "price";
+            case QUANTITY -> "quantity";
+            case ID -> null;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static void bind(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
+        }
+    }
+
+    /**
+     * Récupère une page de tous les articles, triés par (nom, id), par pagination keyset
+     */
+    @Override
+    public Page<Item> findPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String sql = after == null
+            ? "SELECT " + COLUMNS + " FROM items ORDER BY name, id LIMIT ?"
+            : "SELECT " + COLUMNS + " FROM items WHERE name > ? OR (name = ? AND id > ?) ORDER BY name, id LIMIT ?";
+        List<Item> items = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after.getKey());
+                pstmt.setString(index++, after.getKey());
+                pstmt.setInt(index++, after.getId());
+            }
+            pstmt.setInt(index, size + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.ITEM.readAll(rs, items);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(items, size, item -> new KeysetCursor(item.getName(), item.getId()));
+    }
+
+    @Override
+    public List<Item> findAll() {
+        List<Item> items = new ArrayList<>();
+        String sql = "SELECT " + COLUMNS + " FROM items ORDER BY name";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            RowMappings.ITEM.readAll(rs, items);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des articles: " + e.getMessage());
+        }
+        return items;
+    }
+
+    /**
+     * Ouvre un flux sur tous les articles, sans les charger en mémoire.
+     * Le flux doit être fermé (try-with-resources) pour rendre la connexion.
+     * @return Le flux d'articles, vide en cas d'erreur
+     */
+    @Override
+    public Stream<Item> streamAll() {
+        try {
+            return StreamingQuery.stream(databaseManager, STREAM_ALL_SQL, RowMappings.ITEM);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la lecture des articles: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Parcourt tous les articles en flux, avec une empreinte mémoire constante
+     * @return false si la lecture a échoué
+     */
+    @Override
+    public boolean forEach(Consumer<? super Item> action) {
+        return StreamingQuery.forEach(databaseManager, STREAM_ALL_SQL, RowMappings.ITEM, action);
+    }
+
+    @Override
+    public boolean update(Item item) {
+        String sql = "UPDATE items SET name = ?, price = ?, quantity = ?, store_id = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, item.getName().trim());
+            pstmt.setDouble(2, item.getPrice());
+            pstmt.setInt(3, Math.max(0, item.getQuantity()));
+            pstmt.setInt(4, item.getStoreId());
+            pstmt.setInt(5, item.getId());
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour de l'article: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean updateQuantity(int id, int newQuantity) {
+        String sql = "UPDATE items SET quantity = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, Math.max(0, newQuantity));
+            pstmt.setInt(2, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour de la quantité: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Ajoute une quantité au stock en une seule instruction atomique.
+     * La nouvelle valeur est renvoyée par le serveur via LAST_INSERT_ID(expr),
+     * sans second aller-retour.
+     * @return La nouvelle quantité, ou vide si l'article n'existe pas
+     */
+    @Override
+    public OptionalInt increaseQuantity(int id, int amount, Integer userId) {
+        String sql = "UPDATE items SET quantity = LAST_INSERT_ID(quantity + ?) WHERE id = ?" + accessGuard(userId);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, amount);
+            pstmt.setInt(2, id);
+            if (userId != null) {
+                pstmt.setInt(3, userId);
+            }
+            if (pstmt.executeUpdate() > 0) {
+                return OptionalInt.of(lastInsertId(pstmt));
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de l'augmentation du stock: " + e.getMessage());
+        }
+        return OptionalInt.empty();
+    }
+
+    /**
+     * Retire une quantité du stock uniquement si le stock est suffisant,
+     * en une seule instruction atomique.
+     * @return La nouvelle quantité, ou vide si l'article n'existe pas, n'est pas accessible
+     *         ou si le stock est insuffisant
+     */
+    @Override
+    public OptionalInt decreaseQuantityIfAvailable(int id, int amount, Integer userId) {
+        String sql = "UPDATE items SET quantity = LAST_INSERT_ID(quantity - ?) WHERE id = ? AND quantity >= ?"
+            + accessGuard(userId);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, amount);
+            pstmt.setInt(2, id);
+            pstmt.setInt(3, amount);
+            if (userId != null) {
+                pstmt.setInt(4, userId);
+            }
+            if (pstmt.executeUpdate() > 0) {
+                return OptionalInt.of(lastInsertId(pstmt));
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la diminution du stock: " + e.getMessage());
+        }
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public boolean delete(int id) {
+        String sql = "DELETE FROM items WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression de l'article: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean deleteByStoreId(int storeId) {
+        String sql = "DELETE FROM items WHERE store_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            pstmt.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression des articles: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public int deleteChunkByStoreId(int storeId, int limit) {
+        // Parcours de idx_items_store_name : seules les lignes supprimées sont verrouillées
+        String sql = "DELETE FROM items WHERE store_id = ? LIMIT ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            pstmt.setInt(2, limit);
+            return pstmt.executeUpdate();
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression des articles: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    @Override
+    public int countByStoreId(int storeId) {
+        String sql = "SELECT COUNT(*) FROM items WHERE store_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du comptage des articles: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Contrôle d'accès intégré à une modification de stock : rien pour un admin
+     */
+    private static String accessGuard(Integer userId) {
+        return userId == null ? "" : " AND store_id IN (SELECT store_id FROM store_access WHERE user_id = ?)";
+    }
+
+    private static int lastInsertId(PreparedStatement pstmt) throws SQLException {
+        return (int) pstmt.unwrap(StatementImpl.class).getLastInsertID();
+    }
+}
@@ -0,0 +1,230 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import IStore.model.Store;
+import IStore.model.StoreAccess;
+import IStore.model.UserSummary;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class MySqlStoreAccessDAO implements StoreAccessDAO {
+    private static final String STREAM_ALL_SQL =
+        "SELECT " + RowMappings.STORE_ACCESS.columns() + " FROM store_access ORDER BY user_id, store_id";
+
+    private final DatabaseManager databaseManager;
+
+    public MySqlStoreAccessDAO() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Override
+    public boolean addAccess(int userId, int storeId) {
+        String sql = "INSERT IGNORE INTO store_access (user_id, store_id) VALUES (?, ?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, storeId);
+            pstmt.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de l'ajout d'accès: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeAccess(int userId, int storeId) {
+        String sql = "DELETE FROM store_access WHERE user_id = ? AND store_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, storeId);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression d'accès: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean hasAccess(int userId, int storeId) {
+        String sql = "SELECT COUNT(*) FROM store_access WHERE user_id = ? AND store_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, storeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1) > 0;
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la vérification d'accès: " + e.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public int[] getAccessibleStoreIds(int userId) {
+        String sql = "SELECT store_id FROM store_access WHERE user_id = ? ORDER BY store_id";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                IntStream.Builder storeIds = IntStream.builder();
+                while (rs.next()) {
+                    storeIds.add(rs.getInt(1));
+                }
+                return storeIds.build().toArray();
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des accès: " + e.getMessage());
+        }
+        return new int[0];
+    }
+
+    @Override
+    public List<Store> getAccessibleStores(int userId) {
+        List<Store> stores = new ArrayList<>();
+        String sql = "SELECT " + RowMappings.STORE.columns("s") + """
+            FROM stores s
+            INNER JOIN store_access sa ON s.id = sa.store_id
+            WHERE sa.user_id = ?
+            ORDER BY s.name
+        """;
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.STORE.readAll(rs, stores);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des magasins: " + e.getMessage());
+        }
+        return stores;
+    }
+
+    @Override
+    public List<UserSummary> getUsersWithAccess(int storeId) {
+        List<UserSummary> users = new ArrayList<>();
+        String sql = "SELECT " + RowMappings.USER_SUMMARY.columns("u") + """
+            FROM users u
+            INNER JOIN store_access sa ON u.id = sa.user_id
+            WHERE sa.store_id = ?
+            ORDER BY u.pseudo
+        """;
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.USER_SUMMARY.readAll(rs, users);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
+        }
+        return users;
+    }
+
+    /**
+     * Anti-jointure : chaque utilisateur est écarté par une lecture de la clé primaire
+     * (user_id, store_id) de store_access.
+     * Préfixe sur pseudo (idx_users_pseudo) ou email (index unique).
+     */
+    @Override
+    public Page<UserSummary> findUsersWithoutAccess(int storeId, String search, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        StringBuilder sql = new StringBuilder("SELECT " + RowMappings.USER_SUMMARY.columns("u") + """
+            FROM users u
+            LEFT JOIN store_access sa ON sa.user_id = u.id AND sa.store_id = ?
+            WHERE sa.user_id IS NULL
+        """);
+        List<Object> params = new ArrayList<>();
+        params.add(storeId);
+        if (search != null && !search.isBlank()) {
+            String prefix = search.trim().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+            sql.append(" AND (u.pseudo LIKE ? OR u.email LIKE ?)");
+            params.add(prefix);
+            params.add(prefix);
+        }
+        if (after != null) {
+            sql.append(" AND (u.pseudo > ? OR (u.pseudo = ? AND u.id > ?))");
+            params.add(after.getKey());
+            params.add(after.getKey());
+            params.add(after.getId());
+        }
+        sql.append(" ORDER BY u.pseudo, u.id LIMIT ?");
+        params.add(size + 1);
+
+        List<UserSummary> users = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = DatabaseManager.prepareDynamic(connection, sql.toString())) {
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.USER_SUMMARY.readAll(rs, users);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche des utilisateurs: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(users, size, user -> new KeysetCursor(user.getPseudo(), user.getId()));
+    }
+
+    /**
+     * Ouvre un flux sur toutes les lignes d'accès, sans les charger en mémoire.
+     * Le flux doit être fermé (try-with-resources) pour rendre la connexion.
+     * @return Le flux des accès, vide en cas d'erreur
+     */
+    @Override
+    public Stream<StoreAccess> streamAll() {
+        try {
+            return StreamingQuery.stream(databaseManager, STREAM_ALL_SQL, RowMappings.STORE_ACCESS);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la lecture des accès: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Parcourt toutes les lignes d'accès en flux, avec une empreinte mémoire constante
+     * @return false si la lecture a échoué
+     */
+    @Override
+    public boolean forEach(Consumer<? super StoreAccess> action) {
+        return StreamingQuery.forEach(databaseManager, STREAM_ALL_SQL, RowMappings.STORE_ACCESS, action);
+    }
+
+    @Override
+    public boolean removeAllAccessForUser(int userId) {
+        String sql = "DELETE FROM store_access WHERE user_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, userId);
+            pstmt.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression des accès: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean removeAllAccessForStore(int storeId) {
+        String sql = "DELETE FROM store_access WHERE store_id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, storeId);
+            pstmt.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression des accès: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import IStore.model.Store;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class MySqlStoreDAO implements StoreDAO {
+    private static final String COLUMNS = RowMappings.STORE.columns();
+
+    private final DatabaseManager databaseManager;
+
+    public MySqlStoreDAO() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Override
+    public Store create(Store store) {
+        String sql = "INSERT INTO stores (name) VALUES (?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, store.getName().trim());
+            pstmt.executeUpdate();
+
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    store.setId(generatedKeys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la création du magasin: " + e.getMessage());
+            return null;
+        }
+        return store;
+    }
+
+    @Override
+    public Optional<Store> findById(int id) {
+        String sql = "SELECT " + COLUMNS + " FROM stores WHERE id = ? AND deleted_at IS NULL";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.STORE.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche du magasin: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Store> findByName(String name) {
+        // La colonne est en collation insensible à la casse : l'égalité simple utilise l'index UNIQUE
+        String sql = "SELECT " + COLUMNS + " FROM stores WHERE name = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, name.trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.STORE.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche par nom: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Store> findAll() {
+        List<Store> stores = new ArrayList<>();
+        String sql = "SELECT " + COLUMNS + " FROM stores WHERE deleted_at IS NULL ORDER BY name";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            RowMappings.STORE.readAll(rs, stores);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des magasins: " + e.getMessage());
+        }
+        return stores;
+    }
+
+    /**
+     * Récupère une page de magasins triés par (nom, id), par pagination keyset
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     * @param pageSize La taille de page souhaitée
+     */
+    @Override
+    public Page<Store> findPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String sql = after == null
+            ? "SELECT " + COLUMNS + " FROM stores WHERE deleted_at IS NULL ORDER BY name, id LIMIT ?"
+            : "SELECT " + COLUMNS + " FROM stores WHERE deleted_at IS NULL AND (name > ? OR (name = ? AND id > ?)) ORDER BY name, id LIMIT ?";
+        List<Store> stores = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            int index = 1;
+            if (after != null) {
+                pstmt.setString(index++, after.getKey());
+                pstmt.setString(index++, after.getKey());
+                pstmt.setInt(index++, after.getId());
+            }
+            pstmt.setInt(index, size + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.STORE.readAll(rs, stores);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des magasins: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(stores, size, store -> new KeysetCursor(store.getName(), store.getId()));
+    }
+
+    @Override
+    public boolean update(Store store) {
+        String sql = "UPDATE stores SET name = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, store.getName().trim());
+            pstmt.setInt(2, store.getId());
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour du magasin: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean markDeleted(int id) {
+        String sql = "UPDATE stores SET deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND deleted_at IS NULL";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du marquage du magasin: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Integer> findMarkedDeletedIds() {
+        List<Integer> ids = new ArrayList<>();
+        String sql = "SELECT id FROM stores WHERE deleted_at IS NOT NULL ORDER BY deleted_at";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des magasins supprimés: " + e.getMessage());
+        }
+        return ids;
+    }
+
+    /**
+     * Supprime la ligne du magasin ; les articles restants et les accès suivent
+     * par ON DELETE CASCADE
+     */
+    @Override
+    public boolean delete(int id) {
+        String sql = "DELETE FROM stores WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression du magasin: " + e.getMessage());
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,396 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import IStore.model.Role;
+import IStore.model.User;
+import IStore.model.UserSummary;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class MySqlUserDAO implements UserDAO {
+    private static final String COLUMNS = RowMappings.USER.columns();
+    /** Colonnes des projections : jamais le hash du mot de passe */
+    private static final String SUMMARY_COLUMNS = RowMappings.USER_SUMMARY.columns();
+    private static final String STREAM_ALL_SQL = "SELECT " + COLUMNS + " FROM users ORDER BY id";
+    /** Interblocage ou échec de sérialisation : la transaction peut être rejouée */
+    private static final String DEADLOCK_STATE = "40001";
+    private static final int REGISTER_ATTEMPTS = 2;
+
+    private final DatabaseManager databaseManager;
+
+    public MySqlUserDAO() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Override
+    public User create(User user) {
+        String sql = "INSERT INTO users (email, pseudo, password, role) VALUES (?, ?, ?, ?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, user.getEmail().toLowerCase().trim());
+            pstmt.setString(2, user.getPseudo());
+            pstmt.setString(3, user.getPassword());
+            pstmt.setString(4, user.getRole().name());
+            pstmt.executeUpdate();
+
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    user.setId(generatedKeys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la création de l'utilisateur: " + e.getMessage());
+            return null;
+        }
+        return user;
+    }
+
+    @Override
+    public RegistrationProbe probeRegistration(String email) {
+        String sql = "SELECT EXISTS(SELECT 1 FROM users WHERE email = ?), "
+            + "NOT EXISTS(SELECT 1 FROM users), "
+            + "EXISTS(SELECT 1 FROM whitelist WHERE email = ?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            String normalized = email.toLowerCase().trim();
+            pstmt.setString(1, normalized);
+            pstmt.setString(2, normalized);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return new RegistrationProbe(rs.getBoolean(1), rs.getBoolean(2), rs.getBoolean(3));
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la vérification de l'inscription: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Trois instructions dans une transaction : verrou sur la première ligne de users
+     * (ou sur la table vide), consommation de la whitelist par le nombre de lignes
+     * supprimées, insertion. Deux premières inscriptions simultanées s'interbloquent
+     * au lieu de créer deux administrateurs ; la perdante est rejouée une fois.
+     */
+    @Override
+    public RegistrationStatus register(User user) {
+        String email = user.getEmail().toLowerCase().trim();
+        for (int attempt = 1; ; attempt++) {
+            try (Connection connection = databaseManager.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    RegistrationStatus status = registerInTransaction(connection, user, email);
+                    if (status == RegistrationStatus.CREATED) {
+                        connection.commit();
+                    } else {
+                        connection.rollback();
+                    }
+                    return status;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } catch (SQLException e) {
+                if (attempt < REGISTER_ATTEMPTS && DEADLOCK_STATE.equals(e.getSQLState())) {
+                    continue;
+                }
+                System.err.println("Erreur lors de l'inscription: " + e.getMessage());
+                return RegistrationStatus.FAILED;
+            }
+        }
+    }
+
+    private RegistrationStatus registerInTransaction(Connection connection, User user, String email) throws SQLException {
+        boolean firstUser;
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT id FROM users LIMIT 1 FOR UPDATE");
+             ResultSet rs = pstmt.executeQuery()) {
+            firstUser = !rs.next();
+        }
+
+        if (!firstUser) {
+            try (PreparedStatement pstmt = connection.prepareStatement("DELETE FROM whitelist WHERE email = ?")) {
+                pstmt.setString(1, email);
+                if (pstmt.executeUpdate() == 0) {
+                    return RegistrationStatus.NOT_WHITELISTED;
+                }
+            }
+        }
+
+        Role role = firstUser ? Role.ADMIN : Role.EMPLOYEE;
+        String sql = "INSERT INTO users (email, pseudo, password, role) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, email);
+            pstmt.setString(2, user.getPseudo());
+            pstmt.setString(3, user.getPassword());
+            pstmt.setString(4, role.name());
+            pstmt.executeUpdate();
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    user.setId(generatedKeys.getInt(1));
+                }
+            }
+        } catch (SQLIntegrityConstraintViolationException e) {
+            return RegistrationStatus.EMAIL_TAKEN;
+        }
+        user.setEmail(email);
+        user.setRole(role);
+        return RegistrationStatus.CREATED;
+    }
+
+    @Override
+    public Optional<User> findById(int id) {
+        String sql = "SELECT " + COLUMNS + " FROM users WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.USER.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche de l'utilisateur: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        String sql = "SELECT " + COLUMNS + " FROM users WHERE email = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.USER.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche par email: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean emailExists(String email) {
+        String sql = "SELECT 1 FROM users WHERE email = ? LIMIT 1";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la vérification de l'email: " + e.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public List<User> findAll() {
+        List<User> users = new ArrayList<>();
+        String sql = "SELECT " + COLUMNS + " FROM users ORDER BY id";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            RowMappings.USER.readAll(rs, users);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
+        }
+        return users;
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryById(int id) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.USER_SUMMARY.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche de l'utilisateur: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryByEmail(String email) {
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE email = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.USER_SUMMARY.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche de l'utilisateur: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<UserSummary> findAllSummaries() {
+        List<UserSummary> users = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM users ORDER BY id";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            RowMappings.USER_SUMMARY.readAll(rs, users);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
+        }
+        return users;
+    }
+
+    @Override
+    public Page<UserSummary> findSummaryPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?";
+        List<UserSummary> users = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, after == null ? 0 : after.getId());
+            pstmt.setInt(2, size + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.USER_SUMMARY.readAll(rs, users);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(users, size, user -> new KeysetCursor(null, user.getId()));
+    }
+
+    /**
+     * Récupère une page d'utilisateurs triés par id, par pagination keyset
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     * @param pageSize La taille de page souhaitée
+     */
+    @Override
+    public Page<User> findPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String sql = "SELECT " + COLUMNS + " FROM users WHERE id > ? ORDER BY id LIMIT ?";
+        List<User> users = new ArrayList<>(size + 1);
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, after == null ? 0 : after.getId());
+            pstmt.setInt(2, size + 1);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMappings.USER.readAll(rs, users);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
+        }
+        return KeysetCursor.toPage(users, size, user -> new KeysetCursor(null, user.getId()));
+    }
+
+    /**
+     * Ouvre un flux sur tous les utilisateurs, sans les charger en mémoire.
+     * Le flux doit être fermé (try-with-resources) pour rendre la connexion.
+     * @return Le flux d'utilisateurs, vide en cas d'erreur
+     */
+    @Override
+    public Stream<User> streamAll() {
+        try {
+            return StreamingQuery.stream(databaseManager, STREAM_ALL_SQL, RowMappings.USER);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la lecture des utilisateurs: " + e.getMessage());
+            return Stream.empty();
+        }
+    }
+
+    /**
+     * Parcourt tous les utilisateurs en flux, avec une empreinte mémoire constante
+     * @return false si la lecture a échoué
+     */
+    @Override
+    public boolean forEach(Consumer<? super User> action) {
+        return StreamingQuery.forEach(databaseManager, STREAM_ALL_SQL, RowMappings.USER, action);
+    }
+
+    @Override
+    public boolean update(User user) {
+        String sql = "UPDATE users SET email = ?, pseudo = ?, password = ?, role = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, user.getEmail().toLowerCase().trim());
+            pstmt.setString(2, user.getPseudo());
+            pstmt.setString(3, user.getPassword());
+            pstmt.setString(4, user.getRole().name());
+            pstmt.setInt(5, user.getId());
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour de l'utilisateur: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean updateProfile(int id, String email, String pseudo) {
+        String sql = "UPDATE users SET email = ?, pseudo = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            pstmt.setString(2, pseudo);
+            pstmt.setInt(3, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour de l'utilisateur: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean updatePassword(int id, String passwordHash) {
+        return updateColumn("password", passwordHash, id);
+    }
+
+    @Override
+    public boolean updateRole(int id, Role role) {
+        return updateColumn("role", role.name(), id);
+    }
+
+    private boolean updateColumn(String column, String value, int id) {
+        String sql = "UPDATE users SET " + column + " = ? WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, value);
+            pstmt.setInt(2, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la mise à jour de l'utilisateur: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean delete(int id) {
+        String sql = "DELETE FROM users WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression de l'utilisateur: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public int count() {
+        String sql = "SELECT COUNT(*) FROM users";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            if (rs.next()) {
+                return rs.getInt(1);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors du comptage des utilisateurs: " + e.getMessage());
+        }
+        return 0;
+    }
+}
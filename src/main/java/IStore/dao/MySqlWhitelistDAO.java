@@ -0,0 +1,108 @@
+package IStore.dao;
+
+import IStore.model.Whitelist;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class MySqlWhitelistDAO implements WhitelistDAO {
+    private static final String COLUMNS = RowMappings.WHITELIST.columns();
+
+    private final DatabaseManager databaseManager;
+
+    public MySqlWhitelistDAO() {
+        this.databaseManager = DatabaseManager.getInstance();
+    }
+
+    @Override
+    public Whitelist create(Whitelist whitelist) {
+        String sql = "INSERT INTO whitelist (email) VALUES (?)";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            pstmt.setString(1, whitelist.getEmail().toLowerCase().trim());
+            pstmt.executeUpdate();
+
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    whitelist.setId(generatedKeys.getInt(1));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de l'ajout à la whitelist: " + e.getMessage());
+            return null;
+        }
+        return whitelist;
+    }
+
+    @Override
+    public Optional<Whitelist> findById(int id) {
+        String sql = "SELECT " + COLUMNS + " FROM whitelist WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return RowMappings.WHITELIST.readFirst(rs);
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la recherche: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean isWhitelisted(String email) {
+        String sql = "SELECT 1 FROM whitelist WHERE email = ? LIMIT 1";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la vérification: " + e.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public List<Whitelist> findAll() {
+        List<Whitelist> whitelists = new ArrayList<>();
+        String sql = "SELECT " + COLUMNS + " FROM whitelist ORDER BY email";
+        try (Connection connection = databaseManager.getConnection();
+             Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            RowMappings.WHITELIST.readAll(rs, whitelists);
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la récupération: " + e.getMessage());
+        }
+        return whitelists;
+    }
+
+    @Override
+    public boolean delete(int id) {
+        String sql = "DELETE FROM whitelist WHERE id = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, id);
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean deleteByEmail(String email) {
+        String sql = "DELETE FROM whitelist WHERE email = ?";
+        try (Connection connection = databaseManager.getConnection();
+             PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, email.toLowerCase().trim());
+            return pstmt.executeUpdate() > 0;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la suppression: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package IStore.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Convertit la ligne courante d'un ResultSet en objet métier.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+    T mapRow(ResultSet rs) throws SQLException;
+}
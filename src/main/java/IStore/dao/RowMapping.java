@@ -0,0 +1,92 @@
+package IStore.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Correspondance entre une liste explicite de colonnes et un objet métier.
+ * Les positions des colonnes sont résolues une seule fois par ResultSet
+ * ({@link #compile}) ; chaque ligne est ensuite lue par index, sans recherche
+ * par nom. La liste de colonnes sert aussi à écrire le SELECT, pour que la
+ * requête ne ramène que ce qui est lu.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+final class RowMapping<T> {
+
+    /**
+     * Lit une ligne à partir des positions résolues, dans l'ordre des colonnes déclarées
+     */
+    @FunctionalInterface
+    interface Reader<T> {
+        T read(ResultSet rs, int[] columns) throws SQLException;
+    }
+
+    private final List<String> columns;
+    private final Reader<T> reader;
+    private final String columnList;
+
+    private RowMapping(List<String> columns, Reader<T> reader) {
+        this.columns = columns;
+        this.reader = reader;
+        this.columnList = String.join(", ", columns);
+    }
+
+    static <T> RowMapping<T> of(Reader<T> reader, String... columns) {
+        return new RowMapping<>(List.of(columns), reader);
+    }
+
+    /**
+     * Liste des colonnes pour un SELECT, ex. {@code id, name}
+     */
+    String columns() {
+        return columnList;
+    }
+
+    /**
+     * Liste des colonnes préfixées par un alias de table, ex. {@code i.id, i.name}
+     */
+    String columns(String alias) {
+        return columns.stream().map(column -> alias + "." + column).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Résout les positions des colonnes dans {@code rs} et retourne un mapper par index
+     * @throws SQLException si une colonne déclarée est absente du résultat
+     */
+    RowMapper<T> compile(ResultSet rs) throws SQLException {
+        int[] positions = new int[columns.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = rs.findColumn(columns.get(i));
+        }
+        return row -> reader.read(row, positions);
+    }
+
+    /**
+     * Ajoute toutes les lignes restantes de {@code rs} à {@code target}
+     */
+    <C extends Collection<? super T>> C readAll(ResultSet rs, C target) throws SQLException {
+        RowMapper<T> mapper = compile(rs);
+        while (rs.next()) {
+            target.add(mapper.mapRow(rs));
+        }
+        return target;
+    }
+
+    /**
+     * @return La ligne suivante de {@code rs}, ou vide s'il n'y en a plus
+     */
+    Optional<T> readFirst(ResultSet rs) throws SQLException {
+        return rs.next() ? Optional.of(compile(rs).mapRow(rs)) : Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return "RowMapping[" + columnList + "]";
+    }
+}
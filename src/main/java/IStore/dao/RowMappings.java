@@ -0,0 +1,60 @@
+package IStore.dao;
+
+import IStore.model.Item;
+import IStore.model.Role;
+import IStore.model.Store;
+import IStore.model.StoreAccess;
+import IStore.model.User;
+import IStore.model.UserSummary;
+import IStore.model.Whitelist;
+
+/**
+ * Correspondances colonnes → objets des DAO MySQL, partagées entre DAO
+ * lorsqu'une même projection est lue par plusieurs requêtes.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+final class RowMappings {
+
+    private RowMappings() {}
+
+    static final RowMapping<Item> ITEM = RowMapping.of((rs, c) -> new Item(
+        rs.getInt(c[0]),
+        rs.getString(c[1]),
+        rs.getDouble(c[2]),
+        rs.getInt(c[3]),
+        rs.getInt(c[4])
+    ), "id", "name", "price", "quantity", "store_id");
+
+    /** Utilisateur complet, hash du mot de passe compris : authentification uniquement */
+    static final RowMapping<User> USER = RowMapping.of((rs, c) -> new User(
+        rs.getInt(c[0]),
+        rs.getString(c[1]),
+        rs.getString(c[2]),
+        rs.getString(c[3]),
+        Role.valueOf(rs.getString(c[4]))
+    ), "id", "email", "pseudo", "password", "role");
+
+    static final RowMapping<UserSummary> USER_SUMMARY = RowMapping.of((rs, c) -> new UserSummary(
+        rs.getInt(c[0]),
+        rs.getString(c[1]),
+        rs.getString(c[2]),
+        Role.valueOf(rs.getString(c[3]))
+    ), "id", "email", "pseudo", "role");
+
+    static final RowMapping<Store> STORE = RowMapping.of((rs, c) -> new Store(
+        rs.getInt(c[0]),
+        rs.getString(c[1])
+    ), "id", "name");
+
+    static final RowMapping<Whitelist> WHITELIST = RowMapping.of((rs, c) -> new Whitelist(
+        rs.getInt(c[0]),
+        rs.getString(c[1])
+    ), "id", "email");
+
+    static final RowMapping<StoreAccess> STORE_ACCESS = RowMapping.of((rs, c) -> new StoreAccess(
+        rs.getInt(c[0]),
+        rs.getInt(c[1])
+    ), "user_id", "store_id");
+}
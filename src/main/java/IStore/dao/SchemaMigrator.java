@@ -0,0 +1,168 @@
+package IStore.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Applique les migrations du schéma dont la version est supérieure à celle enregistrée
+ * dans la table {@code schema_version}.
+ * Lorsque le schéma est à jour, le démarrage ne coûte qu'une seule requête de version.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class SchemaMigrator {
+    private static final String LOCK_NAME = "istore_schema_migration";
+    private static final int LOCK_TIMEOUT_S = 60;
+    private static final String TABLE_NOT_FOUND_STATE = "42S02";
+
+    private final List<Migration> migrations;
+
+    public SchemaMigrator(List<Migration> migrations) {
+        this.migrations = migrations.stream()
+            .sorted(Comparator.comparingInt(Migration::getVersion))
+            .toList();
+    }
+
+    /**
+     * Met le schéma à jour
+     * @return La version du schéma après migration
+     */
+    public int migrate(Connection connection) throws SQLException {
+        int current = readVersion(connection);
+        if (current >= latestVersion()) {
+            return current;
+        }
+
+        // Plusieurs postes peuvent démarrer en même temps : un seul migre
+        acquireLock(connection);
+        try {
+            createVersionTable(connection);
+            current = readVersion(connection);
+            for (Migration migration : migrations) {
+                if (migration.getVersion() <= current) {
+                    continue;
+                }
+                System.out.println("Migration V" + migration.getVersion() + ": " + migration.getDescription());
+                migration.apply(connection);
+                recordVersion(connection, migration);
+                current = migration.getVersion();
+            }
+            return current;
+        } finally {
+            releaseLock(connection);
+        }
+    }
+
+    public int latestVersion() {
+        return migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).getVersion();
+    }
+
+    private int readVersion(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            if (TABLE_NOT_FOUND_STATE.equals(e.getSQLState())) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private void createVersionTable(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_version (
+                    version INT PRIMARY KEY,
+                    description VARCHAR(255) NOT NULL,
+                    applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+                ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4
+            """);
+        }
+    }
+
+    private void recordVersion(Connection connection, Migration migration) throws SQLException {
+        String sql = "INSERT INTO schema_version (version, description) VALUES (?, ?)";
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setInt(1, migration.getVersion());
+            pstmt.setString(2, migration.getDescription());
+            pstmt.executeUpdate();
+        }
+    }
+
+    private void acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.setInt(2, LOCK_TIMEOUT_S);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Impossible d'obtenir le verrou de migration du schéma");
+                }
+            }
+        }
+    }
+
+    private void releaseLock(Connection connection) {
+        try (PreparedStatement pstmt = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la libération du verrou de migration: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Crée un index s'il n'existe pas encore, en DDL en ligne (sans bloquer les écritures).
+     * MySQL ne supporte pas CREATE INDEX IF NOT EXISTS.
+     */
+    static void createIndexIfMissing(Connection connection, String table, String indexName, String columns) throws SQLException {
+        String sql = """
+            SELECT 1 FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+            LIMIT 1
+        """;
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, indexName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD INDEX " + indexName + " " + columns
+                + ", ALGORITHM=INPLACE, LOCK=NONE");
+        }
+    }
+
+    /**
+     * Ajoute une colonne si elle n'existe pas encore.
+     * MySQL ne supporte pas ADD COLUMN IF NOT EXISTS.
+     */
+    static void addColumnIfMissing(Connection connection, String table, String column, String definition) throws SQLException {
+        String sql = """
+            SELECT 1 FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+            LIMIT 1
+        """;
+        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, column);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return;
+                }
+            }
+        }
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package IStore.dao;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Cache LRU des PreparedStatement d'une connexion physique, indexé par le texte SQL.
+ * Une instruction en cache est prêtée à l'appelant derrière un proxy : son
+ * {@code close()} la remet dans le cache (paramètres et lot effacés) au lieu de la
+ * fermer, si bien qu'une requête fréquente n'est préparée qu'une fois par connexion.
+ * Une instruction déjà prêtée n'est jamais partagée : une seconde demande du même
+ * SQL obtient une instruction hors cache, fermée normalement.
+ * Les requêtes construites à la volée n'y entrent pas (voir {@link DatabaseManager#prepareDynamic}).
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+final class StatementCache {
+
+    private record Key(String sql, int autoGeneratedKeys) {}
+
+    private static final class Entry {
+        final PreparedStatement statement;
+        boolean inUse;
+        boolean evicted;
+
+        Entry(PreparedStatement statement) {
+            this.statement = statement;
+        }
+    }
+
+    private final Connection physical;
+    private final int maxSize;
+    private final CacheStats stats;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    StatementCache(Connection physical, int maxSize, CacheStats stats) {
+        this.physical = physical;
+        this.maxSize = maxSize;
+        this.stats = stats;
+    }
+
+    /**
+     * Prête l'instruction en cache pour {@code sql}, ou la prépare au premier appel
+     * @param autoGeneratedKeys Constante {@code Statement.RETURN_GENERATED_KEYS}/{@code NO_GENERATED_KEYS},
+     *                          ou -1 pour {@code prepareStatement(String)}
+     * @param owner Connexion empruntée, retournée par {@code getConnection()} de l'instruction
+     */
+    synchronized PreparedStatement prepare(String sql, int autoGeneratedKeys, Connection owner) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.inUse) {
+            stats.recordHit();
+            entry.inUse = true;
+            return lend(entry, owner);
+        }
+        stats.recordMiss();
+        PreparedStatement statement = autoGeneratedKeys < 0
+            ? physical.prepareStatement(sql)
+            : physical.prepareStatement(sql, autoGeneratedKeys);
+        if (entry != null) {
+            return statement;
+        }
+        entry = new Entry(statement);
+        entry.inUse = true;
+        entries.put(key, entry);
+        evictOverflow();
+        return lend(entry, owner);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry> it = entries.values().iterator();
+        while (entries.size() > maxSize && it.hasNext()) {
+            Entry eldest = it.next();
+            it.remove();
+            if (eldest.inUse) {
+                eldest.evicted = true;
+            } else {
+                closeQuietly(eldest.statement);
+            }
+        }
+    }
+
+    private synchronized void giveBack(Entry entry) {
+        entry.inUse = false;
+        if (!entry.evicted) {
+            try {
+                entry.statement.clearParameters();
+                entry.statement.clearBatch();
+                return;
+            } catch (SQLException e) {
+                entries.values().remove(entry);
+            }
+        }
+        closeQuietly(entry.statement);
+    }
+
+    private PreparedStatement lend(Entry entry, Connection owner) {
+        boolean[] returned = {false};
+        return (PreparedStatement) Proxy.newProxyInstance(
+            StatementCache.class.getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "close":
+                        if (!returned[0]) {
+                            returned[0] = true;
+                            giveBack(entry);
+                        }
+                        return null;
+                    case "isClosed":
+                        return returned[0] || entry.statement.isClosed();
+                    case "getConnection":
+                        return owner;
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "CachedStatement[" + entry.statement + "]";
+                    default:
+                        break;
+                }
+                if (returned[0]) {
+                    throw new SQLException("L'instruction a déjà été fermée");
+                }
+                try {
+                    return method.invoke(entry.statement, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la fermeture d'une instruction: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "StatementCache{size=" + entries.size() + "/" + maxSize + "}";
+    }
+}
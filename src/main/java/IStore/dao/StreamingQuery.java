@@ -0,0 +1,101 @@
+package IStore.dao;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lecture en flux d'une requête complète, sans matérialiser le résultat en mémoire.
+ * Utilise une instruction forward-only / read-only avec le mode de fetch en flux de MySQL
+ * ({@code setFetchSize(Integer.MIN_VALUE)}) : le driver lit les lignes une à une sur le réseau.
+ * La connexion reste empruntée tant que le flux n'est pas fermé.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+final class StreamingQuery {
+
+    private StreamingQuery() {}
+
+    /**
+     * Ouvre un flux sur le résultat de {@code sql}. Le flux doit être fermé (try-with-resources).
+     * @throws SQLException si la requête ne peut pas être exécutée
+     */
+    static <T> Stream<T> stream(DatabaseManager databaseManager, String sql, RowMapping<T> mapping) throws SQLException {
+        Connection connection = databaseManager.getConnection();
+        Statement stmt = null;
+        ResultSet rs = null;
+        RowMapper<T> mapper;
+        try {
+            stmt = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(Integer.MIN_VALUE);
+            rs = stmt.executeQuery(sql);
+            // Positions des colonnes résolues une fois pour tout le flux
+            mapper = mapping.compile(rs);
+        } catch (SQLException e) {
+            closeAll(rs, stmt, connection);
+            throw e;
+        }
+
+        Statement openStmt = stmt;
+        ResultSet openRs = rs;
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!openRs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.mapRow(openRs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new RuntimeException("Erreur lors de la lecture en flux", e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false)
+            .onClose(() -> closeAll(openRs, openStmt, connection));
+    }
+
+    /**
+     * Applique {@code action} à chaque ligne, en flux
+     * @return false si la lecture a échoué
+     */
+    static <T> boolean forEach(DatabaseManager databaseManager, String sql, RowMapping<T> mapping, Consumer<? super T> action) {
+        try (Stream<T> rows = stream(databaseManager, sql, mapping)) {
+            rows.forEach(action);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la lecture en flux: " + e.getMessage());
+            return false;
+        } catch (RuntimeException e) {
+            if (!(e.getCause() instanceof SQLException)) {
+                throw e;
+            }
+            System.err.println("Erreur lors de la lecture en flux: " + e.getCause().getMessage());
+            return false;
+        }
+    }
+
+    private static void closeAll(ResultSet rs, Statement stmt, Connection connection) {
+        try {
+            if (rs != null) rs.close();
+            if (stmt != null) stmt.close();
+        } catch (SQLException e) {
+            System.err.println("Erreur lors de la fermeture du flux: " + e.getMessage());
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                System.err.println("Erreur lors de la restitution de la connexion: " + e.getMessage());
+            }
+        }
+    }
+}
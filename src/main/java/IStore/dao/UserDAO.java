@@ -1,135 +1,131 @@
 package IStore.dao;
 
+import IStore.model.Page;
 import IStore.model.Role;
 import IStore.model.User;
+import IStore.model.UserSummary;
 
-import java.sql.*;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
-public class UserDAO {
-    private final Connection connection;
+/**
+ * Accès aux utilisateurs, indépendant du moteur de stockage.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public interface UserDAO {
 
-    public UserDAO() {
-        this.connection = DatabaseManager.getInstance().getConnection();
-    }
+    /**
+     * État d'un email avant inscription, lu en une seule requête
+     */
+    final class RegistrationProbe {
+        private final boolean emailTaken;
+        private final boolean firstUser;
+        private final boolean whitelisted;
 
-    public User create(User user) {
-        String sql = "INSERT INTO users (email, pseudo, password, role) VALUES (?, ?, ?, ?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            pstmt.setString(1, user.getEmail().toLowerCase().trim());
-            pstmt.setString(2, user.getPseudo());
-            pstmt.setString(3, user.getPassword());
-            pstmt.setString(4, user.getRole().name());
-            pstmt.executeUpdate();
-
-            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    user.setId(generatedKeys.getInt(1));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la création de l'utilisateur: " + e.getMessage());
-            return null;
+        public RegistrationProbe(boolean emailTaken, boolean firstUser, boolean whitelisted) {
+            this.emailTaken = emailTaken;
+            this.firstUser = firstUser;
+            this.whitelisted = whitelisted;
         }
-        return user;
-    }
 
-    public Optional<User> findById(int id) {
-        String sql = "SELECT * FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToUser(rs));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la recherche de l'utilisateur: " + e.getMessage());
-        }
-        return Optional.empty();
+        public boolean isEmailTaken() { return emailTaken; }
+        public boolean isFirstUser() { return firstUser; }
+        public boolean isWhitelisted() { return whitelisted; }
     }
 
-    public Optional<User> findByEmail(String email) {
-        String sql = "SELECT * FROM users WHERE LOWER(email) = LOWER(?)";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, email.toLowerCase().trim());
-            try (ResultSet rs = pstmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToUser(rs));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la recherche par email: " + e.getMessage());
-        }
-        return Optional.empty();
-    }
+    enum RegistrationStatus { CREATED, EMAIL_TAKEN, NOT_WHITELISTED, FAILED }
 
-    public List<User> findAll() {
-        List<User> users = new ArrayList<>();
-        String sql = "SELECT * FROM users ORDER BY id";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            while (rs.next()) {
-                users.add(mapResultSetToUser(rs));
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la récupération des utilisateurs: " + e.getMessage());
-        }
-        return users;
-    }
+    User create(User user);
 
-    public boolean update(User user) {
-        String sql = "UPDATE users SET email = ?, pseudo = ?, password = ?, role = ? WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setString(1, user.getEmail().toLowerCase().trim());
-            pstmt.setString(2, user.getPseudo());
-            pstmt.setString(3, user.getPassword());
-            pstmt.setString(4, user.getRole().name());
-            pstmt.setInt(5, user.getId());
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la mise à jour de l'utilisateur: " + e.getMessage());
-            return false;
-        }
-    }
+    /**
+     * Email déjà utilisé, table vide, email en whitelist : tout ce que l'inscription
+     * doit savoir avant de hacher le mot de passe
+     * @return null en cas d'erreur
+     */
+    RegistrationProbe probeRegistration(String email);
 
-    public boolean delete(int id) {
-        String sql = "DELETE FROM users WHERE id = ?";
-        try (PreparedStatement pstmt = connection.prepareStatement(sql)) {
-            pstmt.setInt(1, id);
-            return pstmt.executeUpdate() > 0;
-        } catch (SQLException e) {
-            System.err.println("Erreur lors de la suppression de l'utilisateur: " + e.getMessage());
-            return false;
-        }
-    }
+    /**
+     * Inscrit {@code user} de façon atomique. Le premier utilisateur devient ADMIN ;
+     * les suivants deviennent EMPLOYEE à condition que leur email soit en whitelist,
+     * et l'entrée de whitelist est consommée dans la même transaction.
+     * En cas de succès, l'id, l'email normalisé et le rôle sont renseignés sur {@code user}.
+     * @param user L'utilisateur, mot de passe déjà haché
+     */
+    RegistrationStatus register(User user);
+
+    Optional<User> findById(int id);
+
+    /**
+     * Recherche insensible à la casse
+     */
+    Optional<User> findByEmail(String email);
+
+    List<User> findAll();
+
+    // Projections sans la colonne password, pour tout affichage :
+    // le User complet n'est lu que pour l'authentification
 
-    public int count() {
-        String sql = "SELECT COUNT(*) FROM users";
-        try (Statement stmt = connection.createStatement();
-             ResultSet rs = stmt.executeQuery(sql)) {
-            if (rs.next()) {
-                return rs.getInt(1);
-            }
-        } catch (SQLException e) {
-            System.err.println("Erreur lors du comptage des utilisateurs: " + e.getMessage());
+    Optional<UserSummary> findSummaryById(int id);
+
+    /**
+     * Recherche insensible à la casse
+     */
+    Optional<UserSummary> findSummaryByEmail(String email);
+
+    /**
+     * Tous les utilisateurs triés par id
+     */
+    List<UserSummary> findAllSummaries();
+
+    /**
+     * Page d'utilisateurs triés par id
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     */
+    Page<UserSummary> findSummaryPage(String cursor, int pageSize);
+
+    /**
+     * Page d'utilisateurs triés par id
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     */
+    Page<User> findPage(String cursor, int pageSize);
+
+    /**
+     * Flux sur tous les utilisateurs, à fermer après usage
+     */
+    Stream<User> streamAll();
+
+    /**
+     * Parcourt tous les utilisateurs sans les charger en mémoire
+     * @return false si la lecture a échoué
+     */
+    default boolean forEach(Consumer<? super User> action) {
+        try (Stream<User> users = streamAll()) {
+            users.forEach(action);
         }
-        return 0;
+        return true;
     }
 
-    public boolean emailExists(String email) {
-        return findByEmail(email).isPresent();
-    }
+    boolean update(User user);
+
+    /**
+     * Met à jour email et pseudo sans toucher au mot de passe ni au rôle
+     * @return false si l'utilisateur n'existe pas ou si l'email est déjà pris
+     */
+    boolean updateProfile(int id, String email, String pseudo);
+
+    boolean updatePassword(int id, String passwordHash);
+
+    boolean updateRole(int id, Role role);
 
-    private User mapResultSetToUser(ResultSet rs) throws SQLException {
-        return new User(
-            rs.getInt("id"),
-            rs.getString("email"),
-            rs.getString("pseudo"),
-            rs.getString("password"),
-            Role.valueOf(rs.getString("role"))
-        );
+    boolean delete(int id);
+
+    int count();
+
+    default boolean emailExists(String email) {
+        return findByEmail(email).isPresent();
     }
 }
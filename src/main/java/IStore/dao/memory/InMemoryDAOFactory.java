@@ -0,0 +1,51 @@
+package IStore.dao.memory;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.ItemDAO;
+import IStore.dao.StoreAccessDAO;
+import IStore.dao.StoreDAO;
+import IStore.dao.UserDAO;
+import IStore.dao.WhitelistDAO;
+
+/**
+ * Fabrique des DAO en mémoire : aucun serveur requis, les données vivent
+ * le temps du processus. Sert aux tests des services et aux mesures de débit
+ * de la couche service isolée de la base.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryDAOFactory extends DAOFactory {
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final StoreDAO storeDAO;
+    private final StoreAccessDAO storeAccessDAO;
+    private final WhitelistDAO whitelistDAO;
+
+    public InMemoryDAOFactory() {
+        this(new InMemoryDatabase());
+    }
+
+    public InMemoryDAOFactory(InMemoryDatabase db) {
+        this.itemDAO = new InMemoryItemDAO(db);
+        this.userDAO = new InMemoryUserDAO(db);
+        this.storeDAO = new InMemoryStoreDAO(db);
+        this.storeAccessDAO = new InMemoryStoreAccessDAO(db);
+        this.whitelistDAO = new InMemoryWhitelistDAO(db);
+    }
+
+    @Override
+    public ItemDAO getItemDAO() { return itemDAO; }
+
+    @Override
+    public UserDAO getUserDAO() { return userDAO; }
+
+    @Override
+    public StoreDAO getStoreDAO() { return storeDAO; }
+
+    @Override
+    public StoreAccessDAO getStoreAccessDAO() { return storeAccessDAO; }
+
+    @Override
+    public WhitelistDAO getWhitelistDAO() { return whitelistDAO; }
+}
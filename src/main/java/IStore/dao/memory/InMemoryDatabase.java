@@ -0,0 +1,128 @@
+package IStore.dao.memory;
+
+import IStore.model.Item;
+import IStore.model.Store;
+import IStore.model.User;
+import IStore.model.Whitelist;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Tables en mémoire partagées par les DAO du moteur {@code memory}.
+ * Reproduit les contraintes du schéma MySQL : clés générées, unicité insensible à la casse
+ * des emails et noms de magasins, clés étrangères avec suppression en cascade.
+ * Les lectures se font sous verrou partagé, les écritures sous verrou exclusif ;
+ * les objets sont copiés à l'entrée et à la sortie pour ne jamais exposer l'état interne.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryDatabase {
+    /** Ordre (nom, id) insensible à la casse, comme la collation MySQL */
+    static final Comparator<Item> ITEM_NAME_ORDER = Comparator
+        .comparing(Item::getName, String.CASE_INSENSITIVE_ORDER)
+        .thenComparingInt(Item::getId);
+    static final Comparator<Store> STORE_NAME_ORDER = Comparator
+        .comparing(Store::getName, String.CASE_INSENSITIVE_ORDER)
+        .thenComparingInt(Store::getId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    final TreeMap<Integer, Item> items = new TreeMap<>();
+    final TreeMap<Integer, User> users = new TreeMap<>();
+    final TreeMap<Integer, Store> stores = new TreeMap<>();
+    final TreeMap<Integer, Whitelist> whitelist = new TreeMap<>();
+    /** Paires (user_id, store_id) encodées sur un long, triées comme la clé primaire */
+    final NavigableSet<Long> storeAccess = new TreeSet<>();
+
+    final Map<String, Integer> userIdsByEmail = new HashMap<>();
+    final Map<String, Integer> storeIdsByName = new HashMap<>();
+    final Map<String, Integer> whitelistIdsByEmail = new HashMap<>();
+    /** Magasins marqués supprimés, dans l'ordre de marquage */
+    final Set<Integer> deletedStoreIds = new LinkedHashSet<>();
+
+    private int nextItemId = 1;
+    private int nextUserId = 1;
+    private int nextStoreId = 1;
+    private int nextWhitelistId = 1;
+
+    <T> T read(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    <T> T write(Supplier<T> action) {
+        lock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int nextItemId() { return nextItemId++; }
+    int nextUserId() { return nextUserId++; }
+    int nextStoreId() { return nextStoreId++; }
+    int nextWhitelistId() { return nextWhitelistId++; }
+
+    static long accessKey(int userId, int storeId) {
+        return ((long) userId << 32) | (storeId & 0xFFFFFFFFL);
+    }
+
+    static int accessUserId(long key) {
+        return (int) (key >>> 32);
+    }
+
+    static int accessStoreId(long key) {
+        return (int) key;
+    }
+
+    static String normalize(String value) {
+        return value.toLowerCase().trim();
+    }
+
+    static Item copy(Item item) {
+        return new Item(item.getId(), item.getName(), item.getPrice(), item.getQuantity(), item.getStoreId());
+    }
+
+    static User copy(User user) {
+        return new User(user.getId(), user.getEmail(), user.getPseudo(), user.getPassword(), user.getRole());
+    }
+
+    static Store copy(Store store) {
+        return new Store(store.getId(), store.getName());
+    }
+
+    static Whitelist copy(Whitelist entry) {
+        return new Whitelist(entry.getId(), entry.getEmail());
+    }
+
+    /**
+     * Suppression en cascade des lignes dépendant d'un magasin (sous verrou d'écriture)
+     */
+    void cascadeStoreDeletion(int storeId) {
+        items.values().removeIf(item -> item.getStoreId() == storeId);
+        storeAccess.removeIf(key -> accessStoreId(key) == storeId);
+        deletedStoreIds.remove(storeId);
+    }
+
+    /**
+     * Suppression en cascade des lignes dépendant d'un utilisateur (sous verrou d'écriture)
+     */
+    void cascadeUserDeletion(int userId) {
+        storeAccess.subSet(accessKey(userId, 0), true, accessKey(userId, Integer.MAX_VALUE), true).clear();
+    }
+}
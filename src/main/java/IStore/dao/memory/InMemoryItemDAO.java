@@ -0,0 +1,335 @@
+package IStore.dao.memory;
+
+import IStore.dao.ItemDAO;
+import IStore.dao.KeysetCursor;
+import IStore.model.Item;
+import IStore.model.ItemQuery;
+import IStore.model.Page;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Articles stockés en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryItemDAO implements ItemDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryItemDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public Item create(Item item) {
+        return db.write(() -> insert(item));
+    }
+
+    @Override
+    public List<Item> createAll(List<Item> items, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("La taille de lot doit être positive: " + batchSize);
+        }
+        List<Item> results = new ArrayList<>(items.size());
+        for (int from = 0; from < items.size(); from += batchSize) {
+            List<Item> chunk = items.subList(from, Math.min(from + batchSize, items.size()));
+            db.write(() -> {
+                for (Item item : chunk) {
+                    results.add(insert(item));
+                }
+                return null;
+            });
+        }
+        return results;
+    }
+
+    private Item insert(Item item) {
+        if (item.getName() == null || !db.stores.containsKey(item.getStoreId())) {
+            return null;
+        }
+        item.setId(db.nextItemId());
+        db.items.put(item.getId(), new Item(item.getId(), item.getName().trim(), item.getPrice(),
+            Math.max(0, item.getQuantity()), item.getStoreId()));
+        return item;
+    }
+
+    @Override
+    public Optional<Item> findById(int id) {
+        return db.read(() -> Optional.ofNullable(db.items.get(id)).map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public Optional<Item> findByIdForUser(int id, int userId) {
+        return db.read(() -> Optional.ofNullable(db.items.get(id))
+            .filter(item -> db.storeAccess.contains(InMemoryDatabase.accessKey(userId, item.getStoreId())))
+            .map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public List<Item> findByStoreIdForUser(int storeId, int userId) {
+        return db.read(() -> {
+            if (!db.storeAccess.contains(InMemoryDatabase.accessKey(userId, storeId))) {
+                return List.of();
+            }
+            return db.items.values().stream()
+                .filter(item -> item.getStoreId() == storeId)
+                .sorted(InMemoryDatabase.ITEM_NAME_ORDER)
+                .map(InMemoryDatabase::copy)
+                .toList();
+        });
+    }
+
+    @Override
+    public List<Item> findByIds(int[] ids) {
+        return db.read(() -> Arrays.stream(ids)
+            .mapToObj(db.items::get)
+            .filter(Objects::nonNull)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public List<Item> findByStoreId(int storeId) {
+        return db.read(() -> db.items.values().stream()
+            .filter(item -> item.getStoreId() == storeId)
+            .sorted(InMemoryDatabase.ITEM_NAME_ORDER)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public Page<Item> findPageByStoreId(int storeId, String cursor, int pageSize) {
+        return page(storeId, cursor, pageSize);
+    }
+
+    @Override
+    public Page<Item> findPage(String cursor, int pageSize) {
+        return page(null, cursor, pageSize);
+    }
+
+    private Page<Item> page(Integer storeId, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        Item afterItem = after == null ? null : new Item(after.getId(), after.getKey(), 0, 0, 0);
+        List<Item> rows = db.read(() -> db.items.values().stream()
+            .filter(item -> storeId == null || item.getStoreId() == storeId)
+            .filter(item -> afterItem == null || InMemoryDatabase.ITEM_NAME_ORDER.compare(item, afterItem) > 0)
+            .sorted(InMemoryDatabase.ITEM_NAME_ORDER)
+            .limit(size + 1L)
+            .map(InMemoryDatabase::copy)
+            .toList());
+        return KeysetCursor.toPage(rows, size, item -> new KeysetCursor(item.getName(), item.getId()));
+    }
+
+    @Override
+    public Page<Item> searchAcrossStores(String text, Integer userId, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String needle = InMemoryDatabase.normalize(text);
+        Comparator<Item> order = Comparator.comparingInt(Item::getStoreId).thenComparing(InMemoryDatabase.ITEM_NAME_ORDER);
+        Item afterItem = after == null ? null
+            : new Item(after.getId(), after.getNameOfKey(), 0, 0, after.getStoreIdOfKey());
+        List<Item> rows = db.read(() -> db.items.values().stream()
+            .filter(item -> db.stores.containsKey(item.getStoreId()) && !db.deletedStoreIds.contains(item.getStoreId()))
+            .filter(item -> userId == null || db.storeAccess.contains(InMemoryDatabase.accessKey(userId, item.getStoreId())))
+            .filter(item -> item.getName().toLowerCase().contains(needle))
+            .filter(item -> afterItem == null || order.compare(item, afterItem) > 0)
+            .sorted(order)
+            .limit(size + 1L)
+            .map(InMemoryDatabase::copy)
+            .toList());
+        return KeysetCursor.toPage(rows, size,
+            item -> KeysetCursor.ofStoreAndName(item.getStoreId(), item.getName(), item.getId()));
+    }
+
+    @Override
+    public Map<Integer, Integer> sumQuantityByStore(String text, int[] storeIds) {
+        String needle = InMemoryDatabase.normalize(text);
+        Set<Integer> stores = Arrays.stream(storeIds).boxed().collect(Collectors.toSet());
+        return db.read(() -> db.items.values().stream()
+            .filter(item -> stores.contains(item.getStoreId()))
+            .filter(item -> item.getName().toLowerCase().contains(needle))
+            .collect(Collectors.groupingBy(Item::getStoreId, Collectors.summingInt(Item::getQuantity))));
+    }
+
+    @Override
+    public int count(ItemQuery query) {
+        return db.read(() -> (int) db.items.values().stream().filter(matcher(query)).count());
+    }
+
+    @Override
+    public List<Item> find(ItemQuery query, int offset, int limit) {
+        return db.read(() -> db.items.values().stream()
+            .filter(matcher(query))
+            .sorted(comparator(query))
+            .skip(offset)
+            .limit(limit)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public int indexOf(ItemQuery query, int itemId) {
+        Predicate<Item> matcher = matcher(query);
+        Comparator<Item> order = comparator(query);
+        return db.read(() -> {
+            Item item = db.items.get(itemId);
+            if (item == null || !matcher.test(item)) {
+                return -1;
+            }
+            return (int) db.items.values().stream()
+                .filter(matcher)
+                .filter(other -> order.compare(other, item) < 0)
+                .count();
+        });
+    }
+
+    private static Predicate<Item> matcher(ItemQuery query) {
+        Predicate<Item> matcher = item -> item.getStoreId() == query.getStoreId();
+        if (query.getNameFilter() != null) {
+            String text = InMemoryDatabase.normalize(query.getNameFilter());
+            matcher = query.getNameMatch() == ItemQuery.NameMatch.CONTAINS
+                ? matcher.and(item -> item.getName().toLowerCase().contains(text))
+                : matcher.and(item -> item.getName().toLowerCase().startsWith(text));
+        }
+        if (query.getMinPrice() != null) {
+            double min = query.getMinPrice();
+            matcher = matcher.and(item -> item.getPrice() >= min);
+        }
+        if (query.getMaxPrice() != null) {
+            double max = query.getMaxPrice();
+            matcher = matcher.and(item -> item.getPrice() <= max);
+        }
+        if (query.getMinQuantity() != null) {
+            int min = query.getMinQuantity();
+            matcher = matcher.and(item -> item.getQuantity() >= min);
+        }
+        if (query.getMaxQuantity() != null) {
+            int max = query.getMaxQuantity();
+            matcher = matcher.and(item -> item.getQuantity() <= max);
+        }
+        return matcher;
+    }
+
+    private static Comparator<Item> comparator(ItemQuery query) {
+        Comparator<Item> order = switch (query.getSort()) {
+            case NAME -> InMemoryDatabase.ITEM_NAME_ORDER;
+            case PRICE -> Comparator.comparingDouble(Item::getPrice).thenComparingInt(Item::getId);
+            case QUANTITY -> Comparator.comparingInt(Item::getQuantity).thenComparingInt(Item::getId);
+            case ID -> Comparator.comparingInt(Item::getId);
+        };
+        return query.isDescending() ? order.reversed() : order;
+    }
+
+    @Override
+    public List<Item> findAll() {
+        return db.read(() -> db.items.values().stream()
+            .sorted(InMemoryDatabase.ITEM_NAME_ORDER)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public Stream<Item> streamAll() {
+        List<Item> snapshot = db.read(() -> db.items.values().stream().map(InMemoryDatabase::copy).toList());
+        return snapshot.stream();
+    }
+
+    @Override
+    public boolean update(Item item) {
+        return db.write(() -> {
+            if (!db.items.containsKey(item.getId()) || !db.stores.containsKey(item.getStoreId())) {
+                return false;
+            }
+            db.items.put(item.getId(), new Item(item.getId(), item.getName().trim(), item.getPrice(),
+                Math.max(0, item.getQuantity()), item.getStoreId()));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateQuantity(int id, int newQuantity) {
+        return db.write(() -> {
+            Item item = db.items.get(id);
+            if (item == null) {
+                return false;
+            }
+            item.setQuantity(Math.max(0, newQuantity));
+            return true;
+        });
+    }
+
+    @Override
+    public OptionalInt increaseQuantity(int id, int amount, Integer userId) {
+        return db.write(() -> {
+            Item item = db.items.get(id);
+            if (item == null || !accessible(item, userId)) {
+                return OptionalInt.empty();
+            }
+            item.setQuantity(item.getQuantity() + amount);
+            return OptionalInt.of(item.getQuantity());
+        });
+    }
+
+    @Override
+    public OptionalInt decreaseQuantityIfAvailable(int id, int amount, Integer userId) {
+        return db.write(() -> {
+            Item item = db.items.get(id);
+            if (item == null || !accessible(item, userId) || item.getQuantity() < amount) {
+                return OptionalInt.empty();
+            }
+            item.setQuantity(item.getQuantity() - amount);
+            return OptionalInt.of(item.getQuantity());
+        });
+    }
+
+    private boolean accessible(Item item, Integer userId) {
+        return userId == null || db.storeAccess.contains(InMemoryDatabase.accessKey(userId, item.getStoreId()));
+    }
+
+    @Override
+    public boolean delete(int id) {
+        return db.write(() -> db.items.remove(id) != null);
+    }
+
+    @Override
+    public boolean deleteByStoreId(int storeId) {
+        return db.write(() -> {
+            db.items.values().removeIf(item -> item.getStoreId() == storeId);
+            return true;
+        });
+    }
+
+    @Override
+    public int deleteChunkByStoreId(int storeId, int limit) {
+        return db.write(() -> {
+            int deleted = 0;
+            Iterator<Item> it = db.items.values().iterator();
+            while (deleted < limit && it.hasNext()) {
+                if (it.next().getStoreId() == storeId) {
+                    it.remove();
+                    deleted++;
+                }
+            }
+            return deleted;
+        });
+    }
+
+    @Override
+    public int countByStoreId(int storeId) {
+        return db.read(() -> (int) db.items.values().stream().filter(item -> item.getStoreId() == storeId).count());
+    }
+}
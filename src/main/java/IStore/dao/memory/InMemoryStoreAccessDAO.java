@@ -0,0 +1,125 @@
+package IStore.dao.memory;
+
+import IStore.dao.KeysetCursor;
+import IStore.dao.StoreAccessDAO;
+import IStore.model.Page;
+import IStore.model.Store;
+import IStore.model.StoreAccess;
+import IStore.model.User;
+import IStore.model.UserSummary;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Droits d'accès aux magasins stockés en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryStoreAccessDAO implements StoreAccessDAO {
+    private static final Comparator<User> PSEUDO_ORDER =
+        Comparator.comparing(User::getPseudo).thenComparingInt(User::getId);
+
+    private final InMemoryDatabase db;
+
+    public InMemoryStoreAccessDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public boolean addAccess(int userId, int storeId) {
+        return db.write(() -> {
+            if (!db.users.containsKey(userId) || !db.stores.containsKey(storeId)) {
+                return false;
+            }
+            db.storeAccess.add(InMemoryDatabase.accessKey(userId, storeId));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean removeAccess(int userId, int storeId) {
+        return db.write(() -> db.storeAccess.remove(InMemoryDatabase.accessKey(userId, storeId)));
+    }
+
+    @Override
+    public boolean hasAccess(int userId, int storeId) {
+        return db.read(() -> db.storeAccess.contains(InMemoryDatabase.accessKey(userId, storeId)));
+    }
+
+    @Override
+    public int[] getAccessibleStoreIds(int userId) {
+        return db.read(() -> db.storeAccess
+            .subSet(InMemoryDatabase.accessKey(userId, 0), true, InMemoryDatabase.accessKey(userId, Integer.MAX_VALUE), true)
+            .stream()
+            .mapToInt(InMemoryDatabase::accessStoreId)
+            .toArray());
+    }
+
+    @Override
+    public List<Store> getAccessibleStores(int userId) {
+        return db.read(() -> db.storeAccess
+            .subSet(InMemoryDatabase.accessKey(userId, 0), true, InMemoryDatabase.accessKey(userId, Integer.MAX_VALUE), true)
+            .stream()
+            .map(key -> db.stores.get(InMemoryDatabase.accessStoreId(key)))
+            .filter(Objects::nonNull)
+            .sorted(InMemoryDatabase.STORE_NAME_ORDER)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public List<UserSummary> getUsersWithAccess(int storeId) {
+        return db.read(() -> db.storeAccess.stream()
+            .filter(key -> InMemoryDatabase.accessStoreId(key) == storeId)
+            .map(key -> db.users.get(InMemoryDatabase.accessUserId(key)))
+            .filter(Objects::nonNull)
+            .sorted(Comparator.comparing(User::getPseudo, String.CASE_INSENSITIVE_ORDER))
+            .map(UserSummary::of)
+            .toList());
+    }
+
+    @Override
+    public Page<UserSummary> findUsersWithoutAccess(int storeId, String search, String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        String prefix = search == null ? "" : InMemoryDatabase.normalize(search);
+        List<UserSummary> rows = db.read(() -> db.users.values().stream()
+            .filter(user -> !db.storeAccess.contains(InMemoryDatabase.accessKey(user.getId(), storeId)))
+            .filter(user -> user.getPseudo().toLowerCase().startsWith(prefix) || user.getEmail().toLowerCase().startsWith(prefix))
+            .filter(user -> after == null || user.getPseudo().compareTo(after.getKey()) > 0
+                || (user.getPseudo().equals(after.getKey()) && user.getId() > after.getId()))
+            .sorted(PSEUDO_ORDER)
+            .limit(size + 1L)
+            .map(UserSummary::of)
+            .toList());
+        return KeysetCursor.toPage(rows, size, user -> new KeysetCursor(user.getPseudo(), user.getId()));
+    }
+
+    @Override
+    public Stream<StoreAccess> streamAll() {
+        List<StoreAccess> snapshot = db.read(() -> db.storeAccess.stream()
+            .map(key -> new StoreAccess(InMemoryDatabase.accessUserId(key), InMemoryDatabase.accessStoreId(key)))
+            .toList());
+        return snapshot.stream();
+    }
+
+    @Override
+    public boolean removeAllAccessForUser(int userId) {
+        return db.write(() -> {
+            db.cascadeUserDeletion(userId);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean removeAllAccessForStore(int storeId) {
+        return db.write(() -> {
+            db.storeAccess.removeIf(key -> InMemoryDatabase.accessStoreId(key) == storeId);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package IStore.dao.memory;
+
+import IStore.dao.KeysetCursor;
+import IStore.dao.StoreDAO;
+import IStore.model.Page;
+import IStore.model.Store;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Magasins stockés en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryStoreDAO implements StoreDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryStoreDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public Store create(Store store) {
+        return db.write(() -> {
+            String name = store.getName().trim();
+            String key = InMemoryDatabase.normalize(name);
+            if (db.storeIdsByName.containsKey(key)) {
+                return null;
+            }
+            store.setId(db.nextStoreId());
+            db.stores.put(store.getId(), new Store(store.getId(), name));
+            db.storeIdsByName.put(key, store.getId());
+            return store;
+        });
+    }
+
+    @Override
+    public Optional<Store> findById(int id) {
+        return db.read(() -> Optional.ofNullable(db.stores.get(id))
+            .filter(store -> !db.deletedStoreIds.contains(store.getId()))
+            .map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public Optional<Store> findByName(String name) {
+        return db.read(() -> Optional.ofNullable(db.storeIdsByName.get(InMemoryDatabase.normalize(name)))
+            .map(db.stores::get)
+            .map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public List<Store> findAll() {
+        return db.read(() -> db.stores.values().stream()
+            .filter(store -> !db.deletedStoreIds.contains(store.getId()))
+            .sorted(InMemoryDatabase.STORE_NAME_ORDER)
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public Page<Store> findPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        Store afterStore = after == null ? null : new Store(after.getId(), after.getKey());
+        List<Store> rows = db.read(() -> db.stores.values().stream()
+            .filter(store -> !db.deletedStoreIds.contains(store.getId()))
+            .filter(store -> afterStore == null || InMemoryDatabase.STORE_NAME_ORDER.compare(store, afterStore) > 0)
+            .sorted(InMemoryDatabase.STORE_NAME_ORDER)
+            .limit(size + 1L)
+            .map(InMemoryDatabase::copy)
+            .toList());
+        return KeysetCursor.toPage(rows, size, store -> new KeysetCursor(store.getName(), store.getId()));
+    }
+
+    @Override
+    public boolean update(Store store) {
+        return db.write(() -> {
+            Store existing = db.stores.get(store.getId());
+            if (existing == null) {
+                return false;
+            }
+            String name = store.getName().trim();
+            String key = InMemoryDatabase.normalize(name);
+            Integer owner = db.storeIdsByName.get(key);
+            if (owner != null && owner != store.getId()) {
+                return false;
+            }
+            db.storeIdsByName.remove(InMemoryDatabase.normalize(existing.getName()));
+            db.storeIdsByName.put(key, store.getId());
+            db.stores.put(store.getId(), new Store(store.getId(), name));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean markDeleted(int id) {
+        return db.write(() -> db.stores.containsKey(id) && db.deletedStoreIds.add(id));
+    }
+
+    @Override
+    public List<Integer> findMarkedDeletedIds() {
+        return db.read(() -> List.copyOf(db.deletedStoreIds));
+    }
+
+    @Override
+    public boolean delete(int id) {
+        return db.write(() -> {
+            Store removed = db.stores.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            db.storeIdsByName.remove(InMemoryDatabase.normalize(removed.getName()));
+            db.cascadeStoreDeletion(id);
+            return true;
+        });
+    }
+}
@@ -0,0 +1,206 @@
+package IStore.dao.memory;
+
+import IStore.dao.KeysetCursor;
+import IStore.dao.UserDAO;
+import IStore.model.Page;
+import IStore.model.Role;
+import IStore.model.User;
+import IStore.model.UserSummary;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Utilisateurs stockés en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryUserDAO implements UserDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryUserDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public User create(User user) {
+        return db.write(() -> {
+            String email = InMemoryDatabase.normalize(user.getEmail());
+            if (db.userIdsByEmail.containsKey(email)) {
+                return null;
+            }
+            user.setId(db.nextUserId());
+            db.users.put(user.getId(), new User(user.getId(), email, user.getPseudo(), user.getPassword(), user.getRole()));
+            db.userIdsByEmail.put(email, user.getId());
+            return user;
+        });
+    }
+
+    @Override
+    public RegistrationProbe probeRegistration(String email) {
+        String normalized = InMemoryDatabase.normalize(email);
+        return db.read(() -> new RegistrationProbe(
+            db.userIdsByEmail.containsKey(normalized),
+            db.users.isEmpty(),
+            db.whitelistIdsByEmail.containsKey(normalized)));
+    }
+
+    @Override
+    public RegistrationStatus register(User user) {
+        String email = InMemoryDatabase.normalize(user.getEmail());
+        return db.write(() -> {
+            if (db.userIdsByEmail.containsKey(email)) {
+                return RegistrationStatus.EMAIL_TAKEN;
+            }
+            boolean firstUser = db.users.isEmpty();
+            if (!firstUser) {
+                Integer entryId = db.whitelistIdsByEmail.remove(email);
+                if (entryId == null) {
+                    return RegistrationStatus.NOT_WHITELISTED;
+                }
+                db.whitelist.remove(entryId);
+            }
+            user.setEmail(email);
+            user.setRole(firstUser ? Role.ADMIN : Role.EMPLOYEE);
+            return create(user) != null ? RegistrationStatus.CREATED : RegistrationStatus.FAILED;
+        });
+    }
+
+    @Override
+    public Optional<User> findById(int id) {
+        return db.read(() -> Optional.ofNullable(db.users.get(id)).map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return db.read(() -> Optional.ofNullable(db.userIdsByEmail.get(InMemoryDatabase.normalize(email)))
+            .map(db.users::get)
+            .map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public boolean emailExists(String email) {
+        return db.read(() -> db.userIdsByEmail.containsKey(InMemoryDatabase.normalize(email)));
+    }
+
+    @Override
+    public List<User> findAll() {
+        return db.read(() -> db.users.values().stream().map(InMemoryDatabase::copy).toList());
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryById(int id) {
+        return db.read(() -> Optional.ofNullable(db.users.get(id)).map(UserSummary::of));
+    }
+
+    @Override
+    public Optional<UserSummary> findSummaryByEmail(String email) {
+        return db.read(() -> Optional.ofNullable(db.userIdsByEmail.get(InMemoryDatabase.normalize(email)))
+            .map(db.users::get)
+            .map(UserSummary::of));
+    }
+
+    @Override
+    public List<UserSummary> findAllSummaries() {
+        return db.read(() -> db.users.values().stream().map(UserSummary::of).toList());
+    }
+
+    @Override
+    public Page<UserSummary> findSummaryPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        List<UserSummary> rows = db.read(() -> db.users.tailMap(after == null ? 0 : after.getId(), false).values().stream()
+            .limit(size + 1L)
+            .map(UserSummary::of)
+            .toList());
+        return KeysetCursor.toPage(rows, size, user -> new KeysetCursor(null, user.getId()));
+    }
+
+    @Override
+    public Page<User> findPage(String cursor, int pageSize) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int size = Page.clampSize(pageSize);
+        List<User> rows = db.read(() -> db.users.tailMap(after == null ? 0 : after.getId(), false).values().stream()
+            .limit(size + 1L)
+            .map(InMemoryDatabase::copy)
+            .toList());
+        return KeysetCursor.toPage(rows, size, user -> new KeysetCursor(null, user.getId()));
+    }
+
+    @Override
+    public Stream<User> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public boolean update(User user) {
+        return db.write(() -> {
+            User existing = db.users.get(user.getId());
+            if (existing == null) {
+                return false;
+            }
+            String email = InMemoryDatabase.normalize(user.getEmail());
+            Integer owner = db.userIdsByEmail.get(email);
+            if (owner != null && owner != user.getId()) {
+                return false;
+            }
+            db.userIdsByEmail.remove(existing.getEmail());
+            db.userIdsByEmail.put(email, user.getId());
+            db.users.put(user.getId(), new User(user.getId(), email, user.getPseudo(), user.getPassword(), user.getRole()));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateProfile(int id, String email, String pseudo) {
+        return db.write(() -> {
+            User existing = db.users.get(id);
+            return existing != null
+                && update(new User(id, email, pseudo, existing.getPassword(), existing.getRole()));
+        });
+    }
+
+    @Override
+    public boolean updatePassword(int id, String passwordHash) {
+        return db.write(() -> {
+            User existing = db.users.get(id);
+            if (existing == null) {
+                return false;
+            }
+            existing.setPassword(passwordHash);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean updateRole(int id, Role role) {
+        return db.write(() -> {
+            User existing = db.users.get(id);
+            if (existing == null) {
+                return false;
+            }
+            existing.setRole(role);
+            return true;
+        });
+    }
+
+    @Override
+    public boolean delete(int id) {
+        return db.write(() -> {
+            User removed = db.users.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            db.userIdsByEmail.remove(removed.getEmail());
+            db.cascadeUserDeletion(id);
+            return true;
+        });
+    }
+
+    @Override
+    public int count() {
+        return db.read(db.users::size);
+    }
+}
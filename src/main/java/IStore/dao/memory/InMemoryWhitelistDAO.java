@@ -0,0 +1,74 @@
+package IStore.dao.memory;
+
+import IStore.dao.WhitelistDAO;
+import IStore.model.Whitelist;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Whitelist d'inscription stockée en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InMemoryWhitelistDAO implements WhitelistDAO {
+    private final InMemoryDatabase db;
+
+    public InMemoryWhitelistDAO(InMemoryDatabase db) {
+        this.db = db;
+    }
+
+    @Override
+    public Whitelist create(Whitelist whitelist) {
+        return db.write(() -> {
+            String email = InMemoryDatabase.normalize(whitelist.getEmail());
+            if (db.whitelistIdsByEmail.containsKey(email)) {
+                return null;
+            }
+            whitelist.setId(db.nextWhitelistId());
+            db.whitelist.put(whitelist.getId(), new Whitelist(whitelist.getId(), email));
+            db.whitelistIdsByEmail.put(email, whitelist.getId());
+            return whitelist;
+        });
+    }
+
+    @Override
+    public Optional<Whitelist> findById(int id) {
+        return db.read(() -> Optional.ofNullable(db.whitelist.get(id)).map(InMemoryDatabase::copy));
+    }
+
+    @Override
+    public boolean isWhitelisted(String email) {
+        return db.read(() -> db.whitelistIdsByEmail.containsKey(InMemoryDatabase.normalize(email)));
+    }
+
+    @Override
+    public List<Whitelist> findAll() {
+        return db.read(() -> db.whitelist.values().stream()
+            .sorted(Comparator.comparing(Whitelist::getEmail))
+            .map(InMemoryDatabase::copy)
+            .toList());
+    }
+
+    @Override
+    public boolean delete(int id) {
+        return db.write(() -> {
+            Whitelist removed = db.whitelist.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            db.whitelistIdsByEmail.remove(removed.getEmail());
+            return true;
+        });
+    }
+
+    @Override
+    public boolean deleteByEmail(String email) {
+        return db.write(() -> {
+            Integer id = db.whitelistIdsByEmail.remove(InMemoryDatabase.normalize(email));
+            return id != null && db.whitelist.remove(id) != null;
+        });
+    }
+}
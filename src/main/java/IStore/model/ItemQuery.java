@@ -0,0 +1,147 @@
+package IStore.model;
+
+import java.util.Objects;
+
+/**
+ * Critères de recherche des articles d'un magasin : tri et filtres, appliqués
+ * par la requête elle-même. Immuable ; les méthodes {@code with...} retournent une copie.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ItemQuery {
+
+    /**
+     * Colonne de tri ; l'ID sert toujours de critère secondaire pour un ordre stable
+     */
+    public enum Sort {
+        NAME, PRICE, QUANTITY, ID
+    }
+
+    /**
+     * Façon dont le texte recherché doit apparaître dans le nom
+     */
+    public enum NameMatch {
+        PREFIX, CONTAINS
+    }
+
+    private final int storeId;
+    private final Sort sort;
+    private final boolean descending;
+    private final String nameFilter;
+    private final NameMatch nameMatch;
+    private final Double minPrice;
+    private final Double maxPrice;
+    private final Integer minQuantity;
+    private final Integer maxQuantity;
+
+    private ItemQuery(int storeId, Sort sort, boolean descending, String nameFilter, NameMatch nameMatch,
+                      Double minPrice, Double maxPrice, Integer minQuantity, Integer maxQuantity) {
+        this.storeId = storeId;
+        this.sort = sort;
+        this.descending = descending;
+        this.nameFilter = nameFilter;
+        this.nameMatch = nameFilter == null ? null : nameMatch;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.minQuantity = minQuantity;
+        this.maxQuantity = maxQuantity;
+    }
+
+    /**
+     * Tous les articles du magasin, triés par nom
+     */
+    public static ItemQuery forStore(int storeId) {
+        return new ItemQuery(storeId, Sort.NAME, false, null, null, null, null, null, null);
+    }
+
+    public ItemQuery withSort(Sort sort, boolean descending) {
+        return new ItemQuery(storeId, Objects.requireNonNull(sort), descending, nameFilter, nameMatch,
+            minPrice, maxPrice, minQuantity, maxQuantity);
+    }
+
+    /**
+     * @param prefix Début du nom (insensible à la casse), null ou vide pour ne pas filtrer
+     */
+    public ItemQuery withNamePrefix(String prefix) {
+        return withName(prefix, NameMatch.PREFIX);
+    }
+
+    /**
+     * @param text Texte contenu dans le nom (insensible à la casse), null ou vide pour ne pas filtrer
+     */
+    public ItemQuery withNameContaining(String text) {
+        return withName(text, NameMatch.CONTAINS);
+    }
+
+    private ItemQuery withName(String text, NameMatch match) {
+        String trimmed = text == null ? null : text.trim();
+        return new ItemQuery(storeId, sort, descending, trimmed == null || trimmed.isEmpty() ? null : trimmed, match,
+            minPrice, maxPrice, minQuantity, maxQuantity);
+    }
+
+    /**
+     * @param min Prix minimal inclus, ou null
+     * @param max Prix maximal inclus, ou null
+     */
+    public ItemQuery withPriceRange(Double min, Double max) {
+        return new ItemQuery(storeId, sort, descending, nameFilter, nameMatch, min, max, minQuantity, maxQuantity);
+    }
+
+    /**
+     * @param min Quantité minimale incluse, ou null
+     * @param max Quantité maximale incluse, ou null
+     */
+    public ItemQuery withQuantityRange(Integer min, Integer max) {
+        return new ItemQuery(storeId, sort, descending, nameFilter, nameMatch, minPrice, maxPrice, min, max);
+    }
+
+    /**
+     * Articles en stock faible : quantité inférieure ou égale au seuil
+     */
+    public ItemQuery withLowStock(int threshold) {
+        return withQuantityRange(null, threshold);
+    }
+
+    public int getStoreId() { return storeId; }
+    public Sort getSort() { return sort; }
+    public boolean isDescending() { return descending; }
+    public String getNameFilter() { return nameFilter; }
+    public NameMatch getNameMatch() { return nameMatch; }
+    public Double getMinPrice() { return minPrice; }
+    public Double getMaxPrice() { return maxPrice; }
+    public Integer getMinQuantity() { return minQuantity; }
+    public Integer getMaxQuantity() { return maxQuantity; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ItemQuery other)) return false;
+        return storeId == other.storeId && sort == other.sort && descending == other.descending
+            && Objects.equals(nameFilter, other.nameFilter) && nameMatch == other.nameMatch
+            && Objects.equals(minPrice, other.minPrice) && Objects.equals(maxPrice, other.maxPrice)
+            && Objects.equals(minQuantity, other.minQuantity) && Objects.equals(maxQuantity, other.maxQuantity);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(storeId, sort, descending, nameFilter, nameMatch, minPrice, maxPrice, minQuantity, maxQuantity);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("ItemQuery{store=").append(storeId)
+            .append(", sort=").append(sort).append(descending ? " DESC" : "");
+        if (nameFilter != null) {
+            sb.append(", name ").append(nameMatch == NameMatch.PREFIX ? "starts with" : "contains")
+                .append(" '").append(nameFilter).append("'");
+        }
+        if (minPrice != null || maxPrice != null) {
+            sb.append(", price=[").append(minPrice).append(", ").append(maxPrice).append("]");
+        }
+        if (minQuantity != null || maxQuantity != null) {
+            sb.append(", quantity=[").append(minQuantity).append(", ").append(maxQuantity).append("]");
+        }
+        return sb.append("}").toString();
+    }
+}
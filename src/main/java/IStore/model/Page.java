@@ -0,0 +1,50 @@
+package IStore.model;
+
+import java.util.List;
+
+/**
+ * Page de résultats issue d'une pagination par curseur (keyset).
+ * Le curseur de continuation est opaque et doit être renvoyé tel quel
+ * pour obtenir la page suivante.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class Page<T> {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 500;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public Page(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> Page<T> empty() {
+        return new Page<>(List.of(), null);
+    }
+
+    /**
+     * Borne la taille de page demandée entre 1 et {@link #MAX_SIZE}
+     */
+    public static int clampSize(int requested) {
+        if (requested <= 0) {
+            return DEFAULT_SIZE;
+        }
+        return Math.min(requested, MAX_SIZE);
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "Page{size=" + items.size() + ", hasNext=" + hasNext() + "}";
+    }
+}
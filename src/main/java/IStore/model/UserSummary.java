@@ -0,0 +1,55 @@
+package IStore.model;
+
+import java.util.Objects;
+
+/**
+ * Vue d'un utilisateur pour l'affichage : tout sauf le hash du mot de passe.
+ * Les requêtes qui la produisent ne lisent pas la colonne password.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class UserSummary {
+    private final int id;
+    private final String email;
+    private final String pseudo;
+    private final Role role;
+
+    public UserSummary(int id, String email, String pseudo, Role role) {
+        this.id = id;
+        this.email = email;
+        this.pseudo = pseudo;
+        this.role = role;
+    }
+
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getPseudo(), user.getRole());
+    }
+
+    public int getId() { return id; }
+    public String getEmail() { return email; }
+    public String getPseudo() { return pseudo; }
+    public Role getRole() { return role; }
+
+    public boolean isAdmin() {
+        return role == Role.ADMIN;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof UserSummary other)) return false;
+        return id == other.id && Objects.equals(email, other.email)
+            && Objects.equals(pseudo, other.pseudo) && role == other.role;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, email, pseudo, role);
+    }
+
+    @Override
+    public String toString() {
+        return "UserSummary{id=" + id + ", email='" + email + "', pseudo='" + pseudo + "', role=" + role + "}";
+    }
+}
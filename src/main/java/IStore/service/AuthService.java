@@ -1,22 +1,33 @@
 package IStore.service;
 
+import IStore.dao.DAOFactory;
+import IStore.dao.StoreAccessDAO;
 import IStore.dao.UserDAO;
-import IStore.dao.WhitelistDAO;
 import IStore.model.Role;
 import IStore.model.User;
-import IStore.util.PasswordUtil;
+import IStore.util.PasswordHasher;
 import IStore.util.SessionManager;
 import IStore.util.ValidationUtil;
 
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 public class AuthService {
+    private static final String NOT_WHITELISTED_MESSAGE =
+        "Votre email n'est pas autorisé à créer un compte. Contactez un administrateur.";
+    private static final String BUSY_MESSAGE = "Le serveur est occupé, veuillez réessayer dans un instant";
+
     private final UserDAO userDAO;
-    private final WhitelistDAO whitelistDAO;
+    private final StoreAccessDAO storeAccessDAO;
+    private final PasswordHasher passwordHasher = PasswordHasher.shared();
 
     public AuthService() {
-        this.userDAO = new UserDAO();
-        this.whitelistDAO = new WhitelistDAO();
+        this(DAOFactory.getInstance());
+    }
+
+    public AuthService(DAOFactory daoFactory) {
+        this.userDAO = daoFactory.getUserDAO();
+        this.storeAccessDAO = daoFactory.getStoreAccessDAO();
     }
 
     public static class AuthResult {
@@ -52,10 +63,25 @@ public class AuthService {
 
         User user = userOpt.get();
 
-        if (!PasswordUtil.verifyPassword(password, user.getPassword())) {
+        // bcrypt sur le pool borné ; le thread appelant attend sans consommer de CPU
+        boolean valid;
+        try {
+            valid = PasswordHasher.await(passwordHasher.verify(password, user.getPassword()));
+        } catch (RejectedExecutionException e) {
+            return new AuthResult(false, BUSY_MESSAGE, null);
+        }
+        if (!valid) {
             return new AuthResult(false, "Email ou mot de passe incorrect", null);
         }
 
+        // Le hash ne sert qu'à la vérification : il ne reste pas en session
+        user.setPassword(null);
+
+        if (!user.isAdmin()) {
+            // Les contrôles d'accès de la session seront servis depuis le cache
+            storeAccessDAO.preload(user.getId());
+        }
+
         SessionManager.setCurrentUser(user);
         return new AuthResult(true, "Connexion réussie", user);
     }
@@ -82,33 +108,43 @@ public class AuthService {
 
         String normalizedEmail = email.toLowerCase().trim();
 
-        if (userDAO.emailExists(normalizedEmail)) {
+        // Une seule lecture pour refuser tôt, avant le coût du hachage
+        UserDAO.RegistrationProbe probe = userDAO.probeRegistration(normalizedEmail);
+        if (probe == null) {
+            return new AuthResult(false, "Erreur lors de la création du compte", null);
+        }
+        if (probe.isEmailTaken()) {
             return new AuthResult(false, "Un compte existe déjà avec cet email", null);
         }
-
-        boolean isFirstUser = userDAO.count() == 0;
-
-        if (!isFirstUser && !whitelistDAO.isWhitelisted(normalizedEmail)) {
-            return new AuthResult(false, "Votre email n'est pas autorisé à créer un compte. Contactez un administrateur.", null);
+        if (!probe.isFirstUser() && !probe.isWhitelisted()) {
+            return new AuthResult(false, NOT_WHITELISTED_MESSAGE, null);
         }
 
-        String hashedPassword = PasswordUtil.hashPassword(password);
-
-        Role role = isFirstUser ? Role.ADMIN : Role.EMPLOYEE;
-        User newUser = new User(normalizedEmail, pseudo.trim(), hashedPassword, role);
-
-        User createdUser = userDAO.create(newUser);
-        if (createdUser == null) {
-            return new AuthResult(false, "Erreur lors de la création du compte", null);
+        // Hachage hors transaction : aucun verrou n'est tenu pendant bcrypt
+        String hashedPassword;
+        try {
+            hashedPassword = PasswordHasher.await(passwordHasher.hash(password));
+        } catch (RejectedExecutionException e) {
+            return new AuthResult(false, BUSY_MESSAGE, null);
         }
-
-        if (!isFirstUser) {
-            whitelistDAO.deleteByEmail(normalizedEmail);
+        User newUser = new User(normalizedEmail, pseudo.trim(), hashedPassword, Role.EMPLOYEE);
+
+        // Le rôle est décidé dans la transaction : la sonde a pu être devancée
+        switch (userDAO.register(newUser)) {
+            case EMAIL_TAKEN:
+                return new AuthResult(false, "Un compte existe déjà avec cet email", null);
+            case NOT_WHITELISTED:
+                return new AuthResult(false, NOT_WHITELISTED_MESSAGE, null);
+            case FAILED:
+                return new AuthResult(false, "Erreur lors de la création du compte", null);
+            default:
+                break;
         }
 
+        newUser.setPassword(null);
         return new AuthResult(true,
-            isFirstUser ? "Compte administrateur créé avec succès" : "Compte créé avec succès",
-            createdUser);
+            newUser.isAdmin() ? "Compte administrateur créé avec succès" : "Compte créé avec succès",
+            newUser);
     }
 
     public void logout() {
@@ -1,14 +1,25 @@
 package IStore.service;
 
+import IStore.dao.DAOFactory;
 import IStore.dao.ItemDAO;
+import IStore.dao.ItemNameIndex;
 import IStore.dao.StoreAccessDAO;
+import IStore.dao.StoreDAO;
 import IStore.model.Item;
+import IStore.model.ItemQuery;
+import IStore.model.Page;
+import IStore.model.Store;
 import IStore.model.User;
 import IStore.util.SessionManager;
 import IStore.util.ValidationUtil;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
 
 /**
  * Service de gestion de l'inventaire.
@@ -18,12 +29,23 @@ import java.util.Optional;
  * @version 1.0
  */
 public class InventoryService {
+    /** Quantité à partir de laquelle un article est considéré en stock faible */
+    public static final int LOW_STOCK_THRESHOLD = 5;
+
     private final ItemDAO itemDAO;
     private final StoreAccessDAO storeAccessDAO;
+    private final StoreDAO storeDAO;
+    private final ItemNameIndex nameIndex;
 
     public InventoryService() {
-        this.itemDAO = new ItemDAO();
-        this.storeAccessDAO = new StoreAccessDAO();
+        this(DAOFactory.getInstance());
+    }
+
+    public InventoryService(DAOFactory daoFactory) {
+        this.itemDAO = daoFactory.getItemDAO();
+        this.storeAccessDAO = daoFactory.getStoreAccessDAO();
+        this.storeDAO = daoFactory.getStoreDAO();
+        this.nameIndex = daoFactory.getItemNameIndex();
     }
 
     /**
@@ -49,6 +71,45 @@ public class InventoryService {
         public Item getItem() { return item; }
     }
 
+    /**
+     * Résultat d'une création en masse
+     */
+    public static class BulkResult {
+        private final List<Item> createdItems;
+        private final Map<Integer, String> errors;
+
+        public BulkResult(List<Item> createdItems, Map<Integer, String> errors) {
+            this.createdItems = createdItems;
+            this.errors = errors;
+        }
+
+        public boolean isSuccess() { return errors.isEmpty(); }
+        public List<Item> getCreatedItems() { return createdItems; }
+        /** Erreurs indexées par position de la ligne dans la liste d'entrée */
+        public Map<Integer, String> getErrors() { return errors; }
+    }
+
+    /**
+     * Articles trouvés dans un magasin par la recherche multi-magasins
+     */
+    public static class StoreMatches {
+        private final Store store;
+        private final List<Item> items;
+        private final int totalQuantity;
+
+        public StoreMatches(Store store, List<Item> items, int totalQuantity) {
+            this.store = store;
+            this.items = items;
+            this.totalQuantity = totalQuantity;
+        }
+
+        public Store getStore() { return store; }
+        /** Articles du magasin sur cette page seulement */
+        public List<Item> getItems() { return items; }
+        /** Quantité totale en stock de tous les articles trouvés dans ce magasin, toutes pages confondues */
+        public int getTotalQuantity() { return totalQuantity; }
+    }
+
     /**
      * Vérifie si l'utilisateur a accès au magasin
      */
@@ -99,38 +160,220 @@ public class InventoryService {
         Item createdItem = itemDAO.create(item);
 
         if (createdItem != null) {
+            nameIndex.itemSaved(createdItem);
             return new ServiceResult(true, "Article créé avec succès", createdItem);
         }
 
         return new ServiceResult(false, "Erreur lors de la création de l'article");
     }
 
+    /**
+     * Crée des articles en masse (admin uniquement).
+     * @see #createItems(int, List, int)
+     */
+    public BulkResult createItems(int storeId, List<Item> items) {
+        return createItems(storeId, items, ItemDAO.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Crée des articles en masse (admin uniquement), par lots JDBC.
+     * Toutes les lignes sont validées en une passe avant l'envoi ; les lignes invalides
+     * ou rejetées par la base sont signalées individuellement sans interrompre le chargement.
+     * @param storeId L'ID du magasin cible
+     * @param items Les articles à créer (leur storeId est forcé à celui du magasin)
+     * @param batchSize Le nombre de lignes par lot
+     * @return Les articles créés, avec leurs IDs dans l'ordre d'entrée, et les erreurs par ligne
+     */
+    public BulkResult createItems(int storeId, List<Item> items, int batchSize) {
+        Map<Integer, String> errors = new TreeMap<>();
+        if (!SessionManager.isAdmin()) {
+            for (int i = 0; i < items.size(); i++) {
+                errors.put(i, "Seul un administrateur peut créer des articles");
+            }
+            return new BulkResult(List.of(), errors);
+        }
+
+        List<Item> valid = new ArrayList<>(items.size());
+        List<Integer> validRows = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Item item = items.get(i);
+            String error = validateItem(item);
+            if (error != null) {
+                errors.put(i, error);
+            } else {
+                item.setStoreId(storeId);
+                valid.add(item);
+                validRows.add(i);
+            }
+        }
+
+        List<Item> created = new ArrayList<>(valid.size());
+        if (!valid.isEmpty()) {
+            List<Item> results = itemDAO.createAll(valid, batchSize);
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i) != null) {
+                    created.add(results.get(i));
+                    nameIndex.itemSaved(results.get(i));
+                } else {
+                    errors.put(validRows.get(i), "Erreur lors de la création de l'article");
+                }
+            }
+        }
+
+        return new BulkResult(created, errors);
+    }
+
+    private String validateItem(Item item) {
+        if (item == null) {
+            return "Article manquant";
+        }
+        String nameError = ValidationUtil.validateItemName(item.getName());
+        if (nameError != null) {
+            return nameError;
+        }
+        if (Double.isNaN(item.getPrice()) || item.getPrice() < 0) {
+            return "Le prix ne peut pas être négatif";
+        }
+        if (item.getQuantity() < 0) {
+            return "La quantité ne peut pas être négative";
+        }
+        return null;
+    }
+
     /**
      * Récupère tous les articles d'un magasin
      * @param storeId L'ID du magasin
      * @return Liste des articles
      */
     public List<Item> getItemsByStore(int storeId) {
+        User currentUser = SessionManager.getCurrentUser();
+        if (currentUser == null) {
+            return List.of();
+        }
+        if (currentUser.isAdmin()) {
+            return itemDAO.findByStoreId(storeId);
+        }
+        // Accès vérifié par la requête elle-même : un seul aller-retour
+        return itemDAO.findByStoreIdForUser(storeId, currentUser.getId());
+    }
+
+    /**
+     * Récupère une page d'articles d'un magasin, triés par nom
+     * @param storeId L'ID du magasin
+     * @param cursor Le curseur renvoyé par la page précédente, ou null pour la première page
+     * @param pageSize La taille de page souhaitée (bornée à {@link Page#MAX_SIZE})
+     * @return La page d'articles
+     */
+    public Page<Item> getItemsByStore(int storeId, String cursor, int pageSize) {
+        if (!hasStoreAccess(storeId)) {
+            return Page.empty();
+        }
+        return itemDAO.findPageByStoreId(storeId, cursor, pageSize);
+    }
+
+    /**
+     * Compte les articles correspondant à la recherche
+     * @return Le nombre d'articles, 0 sans accès au magasin ou en cas d'erreur
+     */
+    public int countItems(ItemQuery query) {
+        if (!hasStoreAccess(query.getStoreId())) {
+            return 0;
+        }
+        return Math.max(0, itemDAO.count(query));
+    }
+
+    /**
+     * Récupère les articles correspondant à la recherche, à partir de la position {@code offset}
+     * @param limit Nombre maximal d'articles (borné à {@link Page#MAX_SIZE})
+     */
+    public List<Item> findItems(ItemQuery query, int offset, int limit) {
+        if (offset < 0 || !hasStoreAccess(query.getStoreId())) {
+            return List.of();
+        }
+        return itemDAO.find(query, offset, Page.clampSize(limit));
+    }
+
+    /**
+     * Position d'un article dans le résultat de la recherche, pour l'insérer dans la liste affichée
+     * @return La position à partir de 0, ou -1 s'il ne correspond pas à la recherche ou sans accès au magasin
+     */
+    public int indexOfItem(ItemQuery query, int itemId) {
+        if (!hasStoreAccess(query.getStoreId())) {
+            return -1;
+        }
+        return itemDAO.indexOf(query, itemId);
+    }
+
+    /**
+     * Recherche instantanée par nom dans un magasin, tolérante aux fautes de frappe,
+     * servie par l'index de trigrammes (construit à la première recherche du magasin)
+     * @param limit Nombre maximal d'articles (borné à {@link Page#MAX_SIZE})
+     * @return Les articles du plus pertinent au moins pertinent, vide sans accès au magasin
+     */
+    public List<Item> searchItems(int storeId, String text, int limit) {
         if (!hasStoreAccess(storeId)) {
             return List.of();
         }
-        return itemDAO.findByStoreId(storeId);
+        int[] ids = nameIndex.forStore(storeId).search(text, Page.clampSize(limit));
+        return itemDAO.findByIds(ids);
+    }
+
+    /**
+     * Cherche un article dans tous les magasins accessibles (tous pour un admin)
+     * @see #searchAllAccessibleStores(String, String, int)
+     */
+    public Page<StoreMatches> searchAllAccessibleStores(String query) {
+        return searchAllAccessibleStores(query, null, Page.DEFAULT_SIZE);
+    }
+
+    /**
+     * Cherche un article dans tous les magasins accessibles, en une requête paginée.
+     * Les articles d'un même magasin sont regroupés ; un magasin peut se poursuivre
+     * sur la page suivante.
+     * @param query Texte contenu dans le nom de l'article
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     * @param pageSize Nombre maximal d'articles de la page (borné à {@link Page#MAX_SIZE})
+     * @return Une page vide si la recherche est vide ou sans utilisateur connecté
+     */
+    public Page<StoreMatches> searchAllAccessibleStores(String query, String cursor, int pageSize) {
+        User currentUser = SessionManager.getCurrentUser();
+        if (currentUser == null || ValidationUtil.isEmpty(query)) {
+            return Page.empty();
+        }
+        Integer userId = currentUser.isAdmin() ? null : currentUser.getId();
+        Page<Item> page = itemDAO.searchAcrossStores(query, userId, cursor, pageSize);
+
+        // Résultats triés par magasin : un groupe par suite d'articles du même magasin
+        Map<Integer, List<Item>> byStore = new LinkedHashMap<>();
+        for (Item item : page.getItems()) {
+            byStore.computeIfAbsent(item.getStoreId(), id -> new ArrayList<>()).add(item);
+        }
+        // Totaux calculés en base : un magasin peut se poursuivre sur la page suivante
+        int[] storeIds = byStore.keySet().stream().mapToInt(Integer::intValue).toArray();
+        Map<Integer, Integer> totals = itemDAO.sumQuantityByStore(query, storeIds);
+        List<StoreMatches> groups = new ArrayList<>(byStore.size());
+        for (Map.Entry<Integer, List<Item>> entry : byStore.entrySet()) {
+            int total = totals.getOrDefault(entry.getKey(), 0);
+            storeDAO.findById(entry.getKey())
+                .ifPresent(store -> groups.add(new StoreMatches(store, entry.getValue(), total)));
+        }
+        return new Page<>(groups, page.getNextCursor());
     }
 
     /**
      * Récupère un article par son ID
      * @param itemId L'ID de l'article
-     * @return L'article ou null
+     * @return L'article, ou null s'il n'existe pas ou si son magasin n'est pas accessible
      */
     public Item getItemById(int itemId) {
-        Optional<Item> itemOpt = itemDAO.findById(itemId);
-        if (itemOpt.isPresent()) {
-            Item item = itemOpt.get();
-            if (hasStoreAccess(item.getStoreId())) {
-                return item;
-            }
+        User currentUser = SessionManager.getCurrentUser();
+        if (currentUser == null) {
+            return null;
         }
-        return null;
+        Optional<Item> itemOpt = currentUser.isAdmin()
+            ? itemDAO.findById(itemId)
+            : itemDAO.findByIdForUser(itemId, currentUser.getId());
+        return itemOpt.orElse(null);
     }
 
     /**
@@ -173,6 +416,7 @@ public class InventoryService {
         item.setQuantity(Integer.parseInt(quantityStr.trim()));
 
         if (itemDAO.update(item)) {
+            nameIndex.itemSaved(item);
             return new ServiceResult(true, "Article mis à jour avec succès", item);
         }
 
@@ -190,6 +434,7 @@ public class InventoryService {
         }
 
         if (itemDAO.delete(itemId)) {
+            nameIndex.itemRemoved(itemId);
             return new ServiceResult(true, "Article supprimé avec succès");
         }
 
@@ -197,66 +442,77 @@ public class InventoryService {
     }
 
     /**
-     * Augmente la quantité d'un article (employé avec accès ou admin)
-     * @param itemId L'ID de l'article
+     * Augmente la quantité d'un article (employé avec accès ou admin).
+     * L'existence, l'accès et l'incrément sont vérifiés par une seule mise à jour en base.
+     * @param item L'article affiché
      * @param amount La quantité à ajouter
-     * @return Le résultat de l'opération
+     * @return Le résultat de l'opération, avec l'article à jour en cas de succès
      */
-    public ServiceResult increaseStock(int itemId, int amount) {
-        Optional<Item> itemOpt = itemDAO.findById(itemId);
-        if (itemOpt.isEmpty()) {
-            return new ServiceResult(false, "Article non trouvé");
+    public ServiceResult increaseStock(Item item, int amount) {
+        if (amount <= 0) {
+            return new ServiceResult(false, "La quantité doit être positive");
         }
 
-        Item item = itemOpt.get();
-
-        if (!hasStoreAccess(item.getStoreId())) {
+        User currentUser = SessionManager.getCurrentUser();
+        if (currentUser == null) {
             return new ServiceResult(false, "Vous n'avez pas accès à ce magasin");
         }
+        Integer userId = currentUser.isAdmin() ? null : currentUser.getId();
 
-        if (amount <= 0) {
-            return new ServiceResult(false, "La quantité doit être positive");
-        }
-
-        int newQuantity = item.getQuantity() + amount;
-        if (itemDAO.updateQuantity(itemId, newQuantity)) {
-            item.setQuantity(newQuantity);
-            return new ServiceResult(true, "Stock augmenté de " + amount + " unités", item);
+        OptionalInt newQuantity = itemDAO.increaseQuantity(item.getId(), amount, userId);
+        if (newQuantity.isPresent()) {
+            return new ServiceResult(true, "Stock augmenté de " + amount + " unités",
+                withQuantity(item, newQuantity.getAsInt()));
         }
 
-        return new ServiceResult(false, "Erreur lors de la mise à jour du stock");
+        return stockFailure(item.getId(), 0);
     }
 
     /**
-     * Diminue la quantité d'un article (employé avec accès ou admin)
-     * @param itemId L'ID de l'article
+     * Diminue la quantité d'un article (employé avec accès ou admin).
+     * L'existence, l'accès et le stock suffisant sont vérifiés par une seule mise à jour en base.
+     * @param item L'article affiché
      * @param amount La quantité à retirer
-     * @return Le résultat de l'opération
+     * @return Le résultat de l'opération, avec l'article à jour en cas de succès
      */
-    public ServiceResult decreaseStock(int itemId, int amount) {
-        Optional<Item> itemOpt = itemDAO.findById(itemId);
-        if (itemOpt.isEmpty()) {
-            return new ServiceResult(false, "Article non trouvé");
+    public ServiceResult decreaseStock(Item item, int amount) {
+        if (amount <= 0) {
+            return new ServiceResult(false, "La quantité doit être positive");
         }
 
-        Item item = itemOpt.get();
-
-        if (!hasStoreAccess(item.getStoreId())) {
+        User currentUser = SessionManager.getCurrentUser();
+        if (currentUser == null) {
             return new ServiceResult(false, "Vous n'avez pas accès à ce magasin");
         }
+        Integer userId = currentUser.isAdmin() ? null : currentUser.getId();
 
-        if (amount <= 0) {
-            return new ServiceResult(false, "La quantité doit être positive");
+        OptionalInt newQuantity = itemDAO.decreaseQuantityIfAvailable(item.getId(), amount, userId);
+        if (newQuantity.isPresent()) {
+            return new ServiceResult(true, "Stock diminué de " + amount + " unités",
+                withQuantity(item, newQuantity.getAsInt()));
         }
 
-        if (item.getQuantity() < amount) {
-            return new ServiceResult(false, "Stock insuffisant. Stock actuel: " + item.getQuantity());
-        }
+        return stockFailure(item.getId(), amount);
+    }
 
-        int newQuantity = item.getQuantity() - amount;
-        if (itemDAO.updateQuantity(itemId, newQuantity)) {
-            item.setQuantity(newQuantity);
-            return new ServiceResult(true, "Stock diminué de " + amount + " unités", item);
+    private static Item withQuantity(Item item, int quantity) {
+        return new Item(item.getId(), item.getName(), item.getPrice(), quantity, item.getStoreId());
+    }
+
+    /**
+     * Choisit le message d'une mise à jour de stock refusée : l'article n'est relu qu'ici
+     * @param required Le stock nécessaire à l'opération
+     */
+    private ServiceResult stockFailure(int itemId, int required) {
+        Optional<Item> current = itemDAO.findById(itemId);
+        if (current.isEmpty()) {
+            return new ServiceResult(false, "Article non trouvé");
+        }
+        if (!hasStoreAccess(current.get().getStoreId())) {
+            return new ServiceResult(false, "Vous n'avez pas accès à ce magasin");
+        }
+        if (current.get().getQuantity() < required) {
+            return new ServiceResult(false, "Stock insuffisant. Stock actuel: " + current.get().getQuantity());
         }
 
         return new ServiceResult(false, "Erreur lors de la mise à jour du stock");
@@ -0,0 +1,106 @@
+package IStore.service;
+
+import IStore.dao.ItemDAO;
+import IStore.dao.StoreDAO;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Purge en arrière-plan des magasins marqués supprimés.
+ * Les articles sont supprimés par lots de {@link #DEFAULT_CHUNK_SIZE}, chaque lot dans
+ * sa propre transaction courte, pour ne jamais verrouiller longtemps la table items ;
+ * la ligne du magasin est supprimée en dernier. Une purge interrompue (erreur, arrêt de
+ * l'application) laisse le magasin marqué et reprend au démarrage suivant.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class StorePurger {
+    public static final int DEFAULT_CHUNK_SIZE = 5000;
+
+    /**
+     * Suivi de l'avancement d'une purge, appelé depuis le thread de purge
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        ProgressListener NONE = (storeId, deletedItems, totalItems, finished) -> {};
+
+        /**
+         * @param finished true à la fin de la purge, false après chaque lot
+         */
+        void onProgress(int storeId, int deletedItems, int totalItems, boolean finished);
+    }
+
+    // Un seul thread : les purges s'exécutent l'une après l'autre, sans concurrence entre elles
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "istore-store-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ItemDAO itemDAO;
+    private final StoreDAO storeDAO;
+    private final int chunkSize;
+
+    public StorePurger(ItemDAO itemDAO, StoreDAO storeDAO) {
+        this(itemDAO, storeDAO, DEFAULT_CHUNK_SIZE);
+    }
+
+    public StorePurger(ItemDAO itemDAO, StoreDAO storeDAO, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Taille de lot invalide: " + chunkSize);
+        }
+        this.itemDAO = itemDAO;
+        this.storeDAO = storeDAO;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Planifie la purge d'un magasin déjà marqué supprimé
+     * @return Le résultat de la purge : true si le magasin a été entièrement supprimé
+     */
+    public Future<Boolean> submit(int storeId, ProgressListener listener) {
+        return EXECUTOR.submit(() -> purge(storeId, listener));
+    }
+
+    /**
+     * Purge un magasin dans le thread appelant
+     * @return true si le magasin a été entièrement supprimé
+     */
+    public boolean purge(int storeId, ProgressListener listener) {
+        int total = Math.max(0, itemDAO.countByStoreId(storeId));
+        int deleted = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            int count = itemDAO.deleteChunkByStoreId(storeId, chunkSize);
+            if (count < 0) {
+                System.err.println("Purge du magasin " + storeId + " interrompue après " + deleted + " articles");
+                return false;
+            }
+            deleted += count;
+            listener.onProgress(storeId, deleted, Math.max(total, deleted), false);
+            if (count < chunkSize) {
+                // Les accès et les éventuels articles ajoutés entre-temps suivent par ON DELETE CASCADE
+                boolean success = storeDAO.delete(storeId);
+                System.out.println("Purge du magasin " + storeId + ": " + deleted + " articles supprimés");
+                listener.onProgress(storeId, deleted, Math.max(total, deleted), true);
+                return success;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Relance les purges inachevées (ex. application fermée pendant une suppression)
+     * @return Le nombre de purges relancées
+     */
+    public int resumePending() {
+        int resumed = 0;
+        for (int storeId : storeDAO.findMarkedDeletedIds()) {
+            submit(storeId, ProgressListener.NONE);
+            resumed++;
+        }
+        return resumed;
+    }
+}
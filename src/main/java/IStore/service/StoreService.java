@@ -1,13 +1,19 @@
 package IStore.service;
 
+import IStore.dao.DAOFactory;
+import IStore.dao.ItemNameIndex;
 import IStore.dao.StoreDAO;
 import IStore.dao.StoreAccessDAO;
 import IStore.dao.ItemDAO;
+import IStore.model.Page;
 import IStore.model.Store;
 import IStore.model.User;
+import IStore.model.UserSummary;
 import IStore.util.SessionManager;
 import IStore.util.ValidationUtil;
 
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,11 +21,19 @@ public class StoreService {
     private final StoreDAO storeDAO;
     private final StoreAccessDAO storeAccessDAO;
     private final ItemDAO itemDAO;
+    private final StorePurger storePurger;
+    private final ItemNameIndex nameIndex;
 
     public StoreService() {
-        this.storeDAO = new StoreDAO();
-        this.storeAccessDAO = new StoreAccessDAO();
-        this.itemDAO = new ItemDAO();
+        this(DAOFactory.getInstance());
+    }
+
+    public StoreService(DAOFactory daoFactory) {
+        this.storeDAO = daoFactory.getStoreDAO();
+        this.storeAccessDAO = daoFactory.getStoreAccessDAO();
+        this.itemDAO = daoFactory.getItemDAO();
+        this.storePurger = new StorePurger(itemDAO, storeDAO);
+        this.nameIndex = daoFactory.getItemNameIndex();
     }
 
     public static class ServiceResult {
@@ -70,6 +84,10 @@ public class StoreService {
         return storeDAO.findAll();
     }
 
+    public Page<Store> getAllStores(String cursor, int pageSize) {
+        return storeDAO.findPage(cursor, pageSize);
+    }
+
     public List<Store> getAccessibleStores() {
         User currentUser = SessionManager.getCurrentUser();
         if (currentUser == null) {
@@ -80,7 +98,12 @@ public class StoreService {
             return storeDAO.findAll();
         }
 
-        return storeAccessDAO.getAccessibleStores(currentUser.getId());
+        // Droits et magasins viennent des caches : pas de jointure à chaque rafraîchissement
+        return Arrays.stream(storeAccessDAO.getAccessibleStoreIds(currentUser.getId()))
+            .mapToObj(storeDAO::findById)
+            .flatMap(Optional::stream)
+            .sorted(Comparator.comparing(Store::getName, String.CASE_INSENSITIVE_ORDER))
+            .toList();
     }
 
     public Store getStoreById(int id) {
@@ -102,18 +125,36 @@ public class StoreService {
     }
 
     public ServiceResult deleteStore(int storeId) {
+        return deleteStore(storeId, StorePurger.ProgressListener.NONE);
+    }
+
+    /**
+     * Supprime un magasin : il est marqué supprimé et ses accès sont retirés immédiatement,
+     * puis ses articles sont purgés par lots en arrière-plan
+     * @param listener Suivi de la purge, appelé hors du thread JavaFX
+     */
+    public ServiceResult deleteStore(int storeId, StorePurger.ProgressListener listener) {
         if (!SessionManager.isAdmin()) {
             return new ServiceResult(false, "Seul un administrateur peut supprimer un magasin");
         }
 
-        itemDAO.deleteByStoreId(storeId);
+        if (!storeDAO.markDeleted(storeId)) {
+            return new ServiceResult(false, "Erreur lors de la suppression du magasin");
+        }
+
+        // Les employés perdent l'accès tout de suite, sans attendre la fin de la purge
         storeAccessDAO.removeAllAccessForStore(storeId);
+        nameIndex.invalidateStore(storeId);
+        storePurger.submit(storeId, listener);
 
-        if (storeDAO.delete(storeId)) {
-            return new ServiceResult(true, "Magasin supprimé avec succès");
-        }
+        return new ServiceResult(true, "Magasin supprimé avec succès");
+    }
 
-        return new ServiceResult(false, "Erreur lors de la suppression du magasin");
+    /**
+     * Relance les purges de magasins interrompues
+     */
+    public int resumePendingDeletions() {
+        return storePurger.resumePending();
     }
 
     public ServiceResult addEmployeeToStore(int userId, int storeId) {
@@ -140,11 +181,20 @@ public class StoreService {
         return new ServiceResult(false, "Erreur lors du retrait de l'employé");
     }
 
-    public List<User> getStoreEmployees(int storeId) {
-        List<User> users = storeAccessDAO.getUsersWithAccess(storeId);
-        for (User user : users) {
-            user.setPassword("[PROTECTED]");
+    /**
+     * Utilisateurs pouvant être ajoutés au magasin, pour une recherche au fil de la saisie
+     * @param search Début du pseudo ou de l'email ; null ou vide pour tous
+     * @param cursor Le curseur de la page précédente, ou null pour la première page
+     * @return Une page vide si l'utilisateur courant n'est pas administrateur
+     */
+    public Page<UserSummary> findAvailableEmployees(int storeId, String search, String cursor, int pageSize) {
+        if (!SessionManager.isAdmin()) {
+            return Page.empty();
         }
-        return users;
+        return storeAccessDAO.findUsersWithoutAccess(storeId, search, cursor, pageSize);
+    }
+
+    public List<UserSummary> getStoreEmployees(int storeId) {
+        return storeAccessDAO.getUsersWithAccess(storeId);
     }
 }
@@ -1,23 +1,32 @@
 package IStore.service;
 
+import IStore.dao.DAOFactory;
 import IStore.dao.UserDAO;
 import IStore.dao.StoreAccessDAO;
+import IStore.model.Page;
 import IStore.model.User;
+import IStore.model.UserSummary;
 import IStore.model.Role;
-import IStore.util.PasswordUtil;
+import IStore.util.PasswordHasher;
 import IStore.util.SessionManager;
 import IStore.util.ValidationUtil;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 public class UserService {
     private final UserDAO userDAO;
     private final StoreAccessDAO storeAccessDAO;
+    private final PasswordHasher passwordHasher = PasswordHasher.shared();
 
     public UserService() {
-        this.userDAO = new UserDAO();
-        this.storeAccessDAO = new StoreAccessDAO();
+        this(DAOFactory.getInstance());
+    }
+
+    public UserService(DAOFactory daoFactory) {
+        this.userDAO = daoFactory.getUserDAO();
+        this.storeAccessDAO = daoFactory.getStoreAccessDAO();
     }
 
     public static class ServiceResult {
@@ -33,22 +42,16 @@ public class UserService {
         public String getMessage() { return message; }
     }
 
-    public List<User> getAllUsers() {
-        List<User> users = userDAO.findAll();
-        for (User user : users) {
-            user.setPassword("[PROTECTED]");
-        }
-        return users;
+    public List<UserSummary> getAllUsers() {
+        return userDAO.findAllSummaries();
     }
 
-    public User getUserById(int id) {
-        Optional<User> userOpt = userDAO.findById(id);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            user.setPassword("[PROTECTED]");
-            return user;
-        }
-        return null;
+    public Page<UserSummary> getUsers(String cursor, int pageSize) {
+        return userDAO.findSummaryPage(cursor, pageSize);
+    }
+
+    public UserSummary getUserById(int id) {
+        return userDAO.findSummaryById(id).orElse(null);
     }
 
     public ServiceResult updateUser(int userId, String newPseudo, String newEmail, String newPassword) {
@@ -62,13 +65,10 @@ public class UserService {
             return new ServiceResult(false, "Vous n'avez pas la permission de modifier cet utilisateur");
         }
 
-        Optional<User> userOpt = userDAO.findById(userId);
-        if (userOpt.isEmpty()) {
+        if (userDAO.findSummaryById(userId).isEmpty()) {
             return new ServiceResult(false, "Utilisateur non trouvé");
         }
 
-        User userToUpdate = userOpt.get();
-
         String pseudoError = ValidationUtil.validatePseudo(newPseudo);
         if (pseudoError != null) {
             return new ServiceResult(false, pseudoError);
@@ -79,25 +79,31 @@ public class UserService {
             return new ServiceResult(false, emailError);
         }
 
-        Optional<User> existingUser = userDAO.findByEmail(newEmail);
+        Optional<UserSummary> existingUser = userDAO.findSummaryByEmail(newEmail);
         if (existingUser.isPresent() && existingUser.get().getId() != userId) {
             return new ServiceResult(false, "Cet email est déjà utilisé par un autre utilisateur");
         }
 
-        userToUpdate.setPseudo(newPseudo.trim());
-        userToUpdate.setEmail(newEmail.toLowerCase().trim());
-
+        String passwordHash = null;
         if (!ValidationUtil.isEmpty(newPassword)) {
             String passwordError = ValidationUtil.validatePassword(newPassword);
             if (passwordError != null) {
                 return new ServiceResult(false, passwordError);
             }
-            userToUpdate.setPassword(PasswordUtil.hashPassword(newPassword));
+            try {
+                passwordHash = PasswordHasher.await(passwordHasher.hash(newPassword));
+            } catch (RejectedExecutionException e) {
+                return new ServiceResult(false, "Le serveur est occupé, veuillez réessayer dans un instant");
+            }
         }
 
-        if (userDAO.update(userToUpdate)) {
+        // Seules les colonnes modifiées sont écrites : le hash existant n'est jamais relu
+        String pseudo = newPseudo.trim();
+        String email = newEmail.toLowerCase().trim();
+        if (userDAO.updateProfile(userId, email, pseudo)
+                && (passwordHash == null || userDAO.updatePassword(userId, passwordHash))) {
             if (currentUser.getId() == userId) {
-                SessionManager.setCurrentUser(userToUpdate);
+                SessionManager.setCurrentUser(new User(userId, email, pseudo, null, currentUser.getRole()));
             }
             return new ServiceResult(true, "Utilisateur mis à jour avec succès");
         }
@@ -116,15 +122,11 @@ public class UserService {
             return new ServiceResult(false, "Vous ne pouvez pas modifier votre propre rôle");
         }
 
-        Optional<User> userOpt = userDAO.findById(userId);
-        if (userOpt.isEmpty()) {
+        if (userDAO.findSummaryById(userId).isEmpty()) {
             return new ServiceResult(false, "Utilisateur non trouvé");
         }
 
-        User user = userOpt.get();
-        user.setRole(newRole);
-
-        if (userDAO.update(user)) {
+        if (userDAO.updateRole(userId, newRole)) {
             return new ServiceResult(true, "Rôle mis à jour avec succès");
         }
 
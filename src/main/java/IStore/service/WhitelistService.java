@@ -1,5 +1,6 @@
 package IStore.service;
 
+import IStore.dao.DAOFactory;
 import IStore.dao.WhitelistDAO;
 import IStore.dao.UserDAO;
 import IStore.model.Whitelist;
@@ -20,8 +21,12 @@ public class WhitelistService {
     private final UserDAO userDAO;
 
     public WhitelistService() {
-        this.whitelistDAO = new WhitelistDAO();
-        this.userDAO = new UserDAO();
+        this(DAOFactory.getInstance());
+    }
+
+    public WhitelistService(DAOFactory daoFactory) {
+        this.whitelistDAO = daoFactory.getWhitelistDAO();
+        this.userDAO = daoFactory.getUserDAO();
     }
 
     /**
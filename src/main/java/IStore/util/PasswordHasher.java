@@ -0,0 +1,169 @@
+package IStore.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool dédié aux calculs bcrypt (hachage et vérification des mots de passe).
+ * Un thread par cœur et une file bornée : une rafale de connexions ne peut pas
+ * occuper plus que les processeurs disponibles, et les demandes en excès sont
+ * refusées au lieu de s'accumuler.
+ * Les appels retournent un CompletableFuture ; {@link #await} attend le résultat
+ * depuis un thread d'arrière-plan.
+ */
+public class PasswordHasher {
+    private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final int QUEUE_CAPACITY = 32;
+
+    private static final PasswordHasher SHARED = new PasswordHasher(THREADS, QUEUE_CAPACITY);
+
+    /**
+     * Instantané des métriques du pool
+     */
+    public static class Stats {
+        private final int queueDepth;
+        private final int active;
+        private final long completedCount;
+        private final long rejectedCount;
+        private final long totalWaitNanos;
+        private final long totalHashNanos;
+        private final long maxHashNanos;
+
+        public Stats(int queueDepth, int active, long completedCount, long rejectedCount,
+                     long totalWaitNanos, long totalHashNanos, long maxHashNanos) {
+            this.queueDepth = queueDepth;
+            this.active = active;
+            this.completedCount = completedCount;
+            this.rejectedCount = rejectedCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.totalHashNanos = totalHashNanos;
+            this.maxHashNanos = maxHashNanos;
+        }
+
+        public int getQueueDepth() { return queueDepth; }
+        public int getActive() { return active; }
+        public long getCompletedCount() { return completedCount; }
+        public long getRejectedCount() { return rejectedCount; }
+        public long getTotalWaitNanos() { return totalWaitNanos; }
+        public long getTotalHashNanos() { return totalHashNanos; }
+        public long getMaxHashNanos() { return maxHashNanos; }
+
+        public double getAverageWaitMillis() {
+            return completedCount == 0 ? 0 : totalWaitNanos / 1_000_000.0 / completedCount;
+        }
+
+        public double getAverageHashMillis() {
+            return completedCount == 0 ? 0 : totalHashNanos / 1_000_000.0 / completedCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Bcrypt{queued=" + queueDepth + ", active=" + active + ", completed=" + completedCount
+                + ", rejected=" + rejectedCount
+                + ", avgWaitMs=" + String.format("%.1f", getAverageWaitMillis())
+                + ", avgHashMs=" + String.format("%.1f", getAverageHashMillis())
+                + ", maxHashMs=" + maxHashNanos / 1_000_000 + "}";
+        }
+    }
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    PasswordHasher(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), r -> {
+                Thread thread = new Thread(r, "istore-bcrypt-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Pool partagé par toute l'application
+     */
+    public static PasswordHasher shared() {
+        return SHARED;
+    }
+
+    /**
+     * Hache {@code password} sur le pool
+     * @return Le hash, ou un échec {@link RejectedExecutionException} si la file est pleine
+     */
+    public CompletableFuture<String> hash(String password) {
+        return submit(() -> PasswordUtil.hashPassword(password));
+    }
+
+    /**
+     * Vérifie {@code password} contre {@code hashedPassword} sur le pool
+     * @return Le résultat, ou un échec {@link RejectedExecutionException} si la file est pleine
+     */
+    public CompletableFuture<Boolean> verify(String password, String hashedPassword) {
+        return submit(() -> PasswordUtil.verifyPassword(password, hashedPassword));
+    }
+
+    /**
+     * Retourne les métriques courantes du pool
+     */
+    public Stats getStats() {
+        return new Stats(executor.getQueue().size(), executor.getActiveCount(), completedCount.get(),
+            rejectedCount.get(), totalWaitNanos.get(), totalHashNanos.get(), maxHashNanos.get());
+    }
+
+    /**
+     * Attend le résultat d'un calcul soumis au pool. Ne pas appeler depuis le thread JavaFX.
+     * @throws RejectedExecutionException si le pool était saturé
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long start = System.nanoTime();
+                // Métriques enregistrées avant de compléter : visibles dès le retour de l'appelant
+                try {
+                    T result = work.get();
+                    record(start - queuedAt, System.nanoTime() - start);
+                    future.complete(result);
+                } catch (RuntimeException e) {
+                    record(start - queuedAt, System.nanoTime() - start);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void record(long waitNanos, long hashNanos) {
+        completedCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        totalHashNanos.addAndGet(hashNanos);
+        maxHashNanos.accumulateAndGet(hashNanos, Math::max);
+    }
+}
@@ -4,7 +4,8 @@ import IStore.model.User;
 
 public class SessionManager {
 
-    private static User currentUser = null;
+    // Lu par les tâches en arrière-plan : volatile pour la visibilité entre threads
+    private static volatile User currentUser = null;
 
     public static void setCurrentUser(User user) {
         currentUser = user;
@@ -0,0 +1,161 @@
+package IStore.util;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Exécute les appels aux services hors du thread JavaFX.
+ * Chaque contrôleur possède son propre TaskRunner ; les tâches partagent un pool
+ * de threads borné commun à toute l'application. Les callbacks de succès s'exécutent
+ * sur le thread JavaFX, et les tâches en cours sont annulées quand la vue est quittée.
+ * Toutes les méthodes doivent être appelées depuis le thread JavaFX.
+ */
+public class TaskRunner {
+    private static final int WORKERS = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+    private static final int QUEUE_CAPACITY = 256;
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private final Set<Task<?>> running = new HashSet<>();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+    private final ChangeListener<Boolean> cancelWhenHidden = (obs, wasShowing, showing) -> {
+        if (!showing) {
+            cancelAll();
+        }
+    };
+
+    private static ThreadPoolExecutor createExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKERS, WORKERS, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                Thread thread = new Thread(r, "istore-worker-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Lance {@code work} en arrière-plan puis transmet son résultat à {@code onSuccess}
+     * sur le thread JavaFX. Une exception est affichée à l'utilisateur ; une tâche
+     * annulée n'appelle aucun callback.
+     */
+    public <T> Task<T> run(Callable<T> work, Consumer<? super T> onSuccess) {
+        return run(work, onSuccess, error -> {});
+    }
+
+    /**
+     * Comme {@link #run(Callable, Consumer)}, avec {@code onFailure} appelé sur le thread
+     * JavaFX après l'affichage de l'erreur, ou si la tâche est refusée (pool saturé)
+     */
+    public <T> Task<T> run(Callable<T> work, Consumer<? super T> onSuccess, Consumer<? super Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(event -> {
+            finished(task);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            finished(task);
+            Throwable error = task.getException();
+            System.err.println("Erreur lors d'une tâche en arrière-plan: " + error);
+            AlertUtil.showError("Erreur", "L'opération a échoué: " + error.getMessage());
+            onFailure.accept(error);
+        });
+        task.setOnCancelled(event -> finished(task));
+
+        running.add(task);
+        busy.set(true);
+        try {
+            EXECUTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            finished(task);
+            AlertUtil.showError("Erreur", "L'application est occupée, veuillez réessayer");
+            onFailure.accept(e);
+        }
+        return task;
+    }
+
+    /**
+     * Vrai tant qu'une tâche de ce runner est en cours
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    /**
+     * Affiche {@code indicator} pendant l'exécution des tâches
+     */
+    public void bindIndicator(Node indicator) {
+        indicator.visibleProperty().bind(busy);
+        indicator.managedProperty().bind(busy);
+    }
+
+    /**
+     * Désactive les contrôles pendant l'exécution des tâches (ex. bouton de validation)
+     */
+    public void disableWhileBusy(Node... nodes) {
+        for (Node node : nodes) {
+            node.disableProperty().bind(busy);
+        }
+    }
+
+    /**
+     * Annule les tâches en cours quand la scène de {@code node} quitte sa fenêtre
+     * (navigation vers une autre vue) ou quand la fenêtre est fermée
+     */
+    public void cancelOnLeave(Node node) {
+        node.sceneProperty().addListener((sceneObs, oldScene, scene) -> {
+            if (scene == null) {
+                cancelAll();
+                return;
+            }
+            scene.windowProperty().addListener((windowObs, oldWindow, window) -> {
+                // La fenêtre principale survit aux vues : ne pas y laisser de listener
+                if (oldWindow != null) {
+                    oldWindow.showingProperty().removeListener(cancelWhenHidden);
+                }
+                if (window == null) {
+                    cancelAll();
+                } else {
+                    window.showingProperty().addListener(cancelWhenHidden);
+                }
+            });
+        });
+    }
+
+    /**
+     * Annule toutes les tâches en cours de ce runner
+     */
+    public void cancelAll() {
+        for (Task<?> task : new ArrayList<>(running)) {
+            task.cancel(true);
+        }
+        running.clear();
+        busy.set(false);
+    }
+
+    private void finished(Task<?> task) {
+        running.remove(task);
+        busy.set(!running.isEmpty());
+    }
+}
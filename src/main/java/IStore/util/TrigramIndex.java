@@ -0,0 +1,244 @@
+package IStore.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index de trigrammes sur des noms, pour la recherche par sous-chaîne et la
+ * recherche approchée (fautes de frappe). Chaque nom est normalisé (minuscules,
+ * sans accents) et découpé en trigrammes ; chaque trigramme pointe vers une liste
+ * d'emplacements en {@code int[]}, sans objet par entrée. Les identifiants externes
+ * sont ramenés à des emplacements denses pour compter les correspondances dans un
+ * simple tableau.
+ * Thread-safe : les méthodes sont synchronisées.
+ */
+public class TrigramIndex {
+    /** Part minimale des trigrammes de la recherche qu'un nom doit contenir pour être proposé */
+    public static final double DEFAULT_MIN_SIMILARITY = 0.5;
+
+    private static final int[] NO_IDS = new int[0];
+
+    /**
+     * Liste d'emplacements d'un trigramme, non triée
+     */
+    private static final class Postings {
+        int[] slots = new int[2];
+        int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Integer, Integer> slotOf = new HashMap<>();
+    private int[] ids = new int[16];
+    private String[] names = new String[16];
+    private int[] freeSlots = new int[0];
+    private int freeCount;
+    private int slotCount;
+
+    /**
+     * Ajoute ou remplace le nom associé à {@code id}
+     */
+    public synchronized void put(int id, String name) {
+        String normalized = normalize(name);
+        Integer existing = slotOf.get(id);
+        if (existing != null) {
+            if (normalized.equals(names[existing])) {
+                return;
+            }
+            remove(id);
+        }
+        int slot = allocateSlot();
+        ids[slot] = id;
+        names[slot] = normalized;
+        slotOf.put(id, slot);
+        for (long gram : trigrams(padded(normalized))) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(slot);
+        }
+    }
+
+    /**
+     * Retire {@code id} de l'index
+     * @return false si l'identifiant n'était pas indexé
+     */
+    public synchronized boolean remove(int id) {
+        Integer slot = slotOf.remove(id);
+        if (slot == null) {
+            return false;
+        }
+        for (long gram : trigrams(padded(names[slot]))) {
+            Postings list = postings.get(gram);
+            if (list != null) {
+                list.remove(slot);
+                if (list.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        names[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(8, freeCount * 2));
+        }
+        freeSlots[freeCount++] = slot;
+        return true;
+    }
+
+    public synchronized boolean contains(int id) {
+        return slotOf.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return slotOf.size();
+    }
+
+    /**
+     * Recherche {@code text} dans les noms, avec la similarité minimale par défaut
+     * @see #search(String, int, double)
+     */
+    public int[] search(String text, int limit) {
+        return search(text, limit, DEFAULT_MIN_SIMILARITY);
+    }
+
+    /**
+     * Identifiants des noms correspondant à {@code text}, du plus pertinent au moins pertinent :
+     * noms commençant par le texte, puis le contenant, puis noms proches (au moins
+     * {@code minSimilarity} des trigrammes du texte en commun). À pertinence égale, le nom
+     * le plus court passe en premier.
+     * Un texte de moins de trois caractères n'est cherché que comme sous-chaîne.
+     */
+    public synchronized int[] search(String text, int limit, double minSimilarity) {
+        String query = normalize(text);
+        if (query.isEmpty() || limit <= 0) {
+            return NO_IDS;
+        }
+        long[] grams = trigrams(query);
+        List<Match> matches = new ArrayList<>();
+
+        if (grams.length == 0) {
+            for (int slot = 0; slot < slotCount; slot++) {
+                if (names[slot] != null && names[slot].contains(query)) {
+                    matches.add(new Match(slot, score(names[slot], query, 1.0)));
+                }
+            }
+        } else {
+            int[] counts = new int[slotCount];
+            int[] touched = new int[Math.min(slotCount, 64)];
+            int touchedCount = 0;
+            for (long gram : grams) {
+                Postings list = postings.get(gram);
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    int slot = list.slots[i];
+                    if (counts[slot]++ == 0) {
+                        if (touchedCount == touched.length) {
+                            touched = Arrays.copyOf(touched, touchedCount * 2);
+                        }
+                        touched[touchedCount++] = slot;
+                    }
+                }
+            }
+            for (int i = 0; i < touchedCount; i++) {
+                int slot = touched[i];
+                double similarity = (double) counts[slot] / grams.length;
+                if (similarity >= minSimilarity) {
+                    matches.add(new Match(slot, score(names[slot], query, similarity)));
+                }
+            }
+        }
+
+        matches.sort((a, b) -> {
+            int byScore = Double.compare(b.score, a.score);
+            if (byScore != 0) return byScore;
+            int byLength = Integer.compare(names[a.slot].length(), names[b.slot].length());
+            return byLength != 0 ? byLength : Integer.compare(ids[a.slot], ids[b.slot]);
+        });
+        int[] result = new int[Math.min(limit, matches.size())];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids[matches.get(i).slot];
+        }
+        return result;
+    }
+
+    private record Match(int slot, double score) {}
+
+    /**
+     * Préfixe > sous-chaîne > proximité ; la similarité départage chaque catégorie
+     */
+    private static double score(String name, String query, double similarity) {
+        if (name.startsWith(query)) {
+            return 2 + similarity;
+        }
+        if (name.contains(query)) {
+            return 1 + similarity;
+        }
+        return similarity;
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            ids = Arrays.copyOf(ids, slotCount * 2);
+            names = Arrays.copyOf(names, slotCount * 2);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Minuscules, accents retirés, espaces réduits
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return decomposed.replaceAll("\\p{M}+", "")
+            .toLowerCase(Locale.ROOT)
+            .trim()
+            .replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Les noms sont bordés d'espaces pour que début et fin de mot forment des trigrammes
+     */
+    private static String padded(String normalized) {
+        return " " + normalized + " ";
+    }
+
+    /**
+     * Trigrammes distincts de {@code value}, chacun codé sur 48 bits (3 caractères de 16 bits)
+     */
+    private static long[] trigrams(String value) {
+        int count = value.length() - 2;
+        if (count <= 0) {
+            return new long[0];
+        }
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) value.charAt(i) << 32) | ((long) value.charAt(i + 1) << 16) | value.charAt(i + 2);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+}
@@ -0,0 +1,108 @@
+package IStore.controller;
+
+import IStore.model.Item;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ObservableValue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Mesure des allocations des fabriques de valeurs de cellules de la table des articles :
+ * propriétés créées à chaque appel (avant) contre propriétés mises en cache par ligne (après).
+ * Simule plusieurs passes de défilement sur toutes les lignes, hors toolkit JavaFX.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ItemRowAllocationTest {
+
+    private static final int ROWS = 20_000;
+    private static final int PASSES = 10;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Puits : empêche le JIT d'éliminer les allocations mesurées
+    private Object sink;
+
+    private <R> long allocatedBytes(List<R> rows, List<Function<R, ObservableValue<?>>> columns) {
+        // Échauffement : création paresseuse des propriétés et compilation JIT
+        render(rows, columns);
+        render(rows, columns);
+
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int pass = 0; pass < PASSES; pass++) {
+            render(rows, columns);
+        }
+        return THREADS.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private <R> void render(List<R> rows, List<Function<R, ObservableValue<?>>> columns) {
+        for (R row : rows) {
+            for (Function<R, ObservableValue<?>> column : columns) {
+                ObservableValue<?> value = column.apply(row);
+                sink = value.getValue();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Les propriétés par ligne n'allouent presque rien au défilement")
+    void testCachedPropertiesAllocateLess() {
+        assumeAllocationCounting();
+
+        List<Item> items = new ArrayList<>(ROWS);
+        List<ItemRow> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Item item = new Item(i + 1, "Article " + i, 1.5 + i, i % 500, 1);
+            items.add(item);
+            rows.add(new ItemRow(item));
+        }
+
+        long perCall = allocatedBytes(items, List.of(
+            item -> new SimpleIntegerProperty(item.getId()).asObject(),
+            item -> new SimpleStringProperty(item.getName()),
+            item -> new SimpleDoubleProperty(item.getPrice()).asObject(),
+            item -> new SimpleIntegerProperty(item.getQuantity()).asObject()));
+
+        long cached = allocatedBytes(rows, List.of(
+            ItemRow::idProperty,
+            ItemRow::nameProperty,
+            ItemRow::priceProperty,
+            ItemRow::quantityProperty));
+
+        long cells = (long) ROWS * 4 * PASSES;
+        assertTrue(cached * 20 < perCall, String.format(
+            "Les propriétés en cache doivent allouer au moins 20 fois moins sur %d cellules : "
+                + "avant %d o (%.1f o/cellule), après %d o (%.1f o/cellule)",
+            cells, perCall, (double) perCall / cells, cached, (double) cached / cells));
+    }
+
+    @Test
+    @DisplayName("Une mise à jour modifie les propriétés existantes en place")
+    void testUpdateInPlace() {
+        ItemRow row = new ItemRow(new Item(1, "Stylo", 1.0, 5, 1));
+        var quantity = row.quantityProperty();
+
+        row.update(new Item(1, "Stylo", 1.0, 8, 1));
+
+        assertSame(quantity, row.quantityProperty());
+        assertEquals(8, quantity.get());
+        assertEquals(8, row.getItem().getQuantity());
+    }
+
+    private static void assumeAllocationCounting() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported()
+            && THREADS.isThreadAllocatedMemoryEnabled(), "Mesure des allocations non disponible");
+    }
+}
@@ -0,0 +1,314 @@
+package IStore.controller;
+
+import IStore.model.Item;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la liste d'articles chargée à la demande, avec une source asynchrone
+ * simulée : les réponses sont mises en file et délivrées explicitement.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class LazyItemListTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final Deque<Runnable> responses = new ArrayDeque<>();
+    private final List<Integer> requestedOffsets = new ArrayList<>();
+    private boolean failPages;
+    private List<Item> data;
+    private LazyItemList list;
+
+    @BeforeEach
+    void setUp() {
+        data = items(35, 1);
+        list = new LazyItemList(new LazyItemList.DataSource() {
+            @Override
+            public void fetchCount(IntConsumer onLoaded) {
+                int count = data.size();
+                responses.add(() -> onLoaded.accept(count));
+            }
+
+            @Override
+            public void fetchPage(int offset, int limit, Consumer<List<Item>> onLoaded, Runnable onFailed) {
+                requestedOffsets.add(offset);
+                if (failPages) {
+                    responses.add(onFailed);
+                    return;
+                }
+                List<Item> page = List.copyOf(data.subList(Math.min(offset, data.size()),
+                    Math.min(offset + limit, data.size())));
+                responses.add(() -> onLoaded.accept(page));
+            }
+        }, PAGE_SIZE, 2);
+    }
+
+    private static List<Item> items(int count, int firstId) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Item item = new Item(String.format("Article %03d", i), 1, i, 1);
+            item.setId(firstId + i);
+            items.add(item);
+        }
+        return items;
+    }
+
+    private void drain() {
+        while (!responses.isEmpty()) {
+            responses.poll().run();
+        }
+    }
+
+    @Test
+    @DisplayName("Le comptage et la première page sont demandés ensemble")
+    void testReloadFetchesCountAndFirstPage() {
+        list.reload();
+        assertEquals(List.of(0), requestedOffsets);
+        assertEquals(2, responses.size());
+        assertEquals(0, list.size());
+
+        drain();
+        assertEquals(35, list.size());
+        assertEquals(1, list.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Une ligne non chargée est vide puis remplie au chargement de sa page")
+    void testRowsLoadOnDemand() {
+        list.reload();
+        drain();
+
+        List<ListChangeListener.Change<? extends ItemRow>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<ItemRow>) changes::add);
+
+        assertNull(list.get(25));
+        assertTrue(requestedOffsets.contains(20));
+        drain();
+
+        assertEquals(26, list.get(25).getId());
+        assertFalse(changes.isEmpty());
+        drain();
+        assertEquals(34, list.get(34).getItem().getQuantity());
+    }
+
+    @Test
+    @DisplayName("La page suivante est lue en avance et le cache reste borné")
+    void testPrefetchAndEviction() {
+        list.reload();
+        drain();
+
+        list.get(5);
+        assertTrue(requestedOffsets.contains(10));
+        drain();
+        list.get(25);
+        drain();
+
+        assertTrue(list.getCachedPageCount() <= 2);
+        assertNull(list.findLoaded(1));
+    }
+
+    @Test
+    @DisplayName("Les réponses d'un chargement dépassé sont ignorées")
+    void testStaleResponsesIgnored() {
+        list.reload();
+        Runnable staleCount = responses.pollLast();
+        Runnable stalePage = responses.poll();
+
+        data = items(3, 100);
+        list.reload();
+        staleCount.run();
+        stalePage.run();
+        assertEquals(0, list.size());
+
+        drain();
+        assertEquals(3, list.size());
+        assertEquals(100, list.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Un rafraîchissement conserve la ligne de chaque article toujours présent")
+    void testRefreshKeepsRowIdentity() {
+        list.reload();
+        drain();
+        ItemRow row = list.get(0);
+
+        Item updated = new Item(row.getItem().getName(), 9.5, 42, 1);
+        updated.setId(row.getId());
+        data = new ArrayList<>(data);
+        data.set(0, updated);
+        list.refresh();
+        drain();
+
+        assertSame(row, list.get(0));
+        assertEquals(42, row.quantityProperty().get());
+    }
+
+    @Test
+    @DisplayName("Une page dont la lecture a échoué peut être demandée à nouveau")
+    void testFailedPageIsRequestedAgain() {
+        list.reload();
+        drain();
+        requestedOffsets.clear();
+
+        failPages = true;
+        assertNull(list.get(25));
+        assertNull(list.get(25), "Page en cours de lecture : pas de seconde demande");
+        assertEquals(List.of(20), requestedOffsets);
+        drain();
+
+        failPages = false;
+        assertNull(list.get(25));
+        assertEquals(List.of(20, 20), requestedOffsets);
+        drain();
+        assertEquals(26, list.get(25).getId());
+    }
+
+    @Test
+    @DisplayName("Une suppression retire sa seule ligne et décale les pages en cache")
+    void testRemoveItemShiftsCachedPages() {
+        list.reload();
+        drain();
+        list.get(15);
+        drain();
+        ItemRow kept = list.get(12);
+        drain();
+        requestedOffsets.clear();
+
+        List<ListChangeListener.Change<? extends ItemRow>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<ItemRow>) changes::add);
+        data = new ArrayList<>(data);
+        data.remove(15);
+
+        assertTrue(list.removeItem(16));
+        assertEquals(34, list.size());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends ItemRow> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasRemoved() && !change.wasAdded());
+        assertEquals(15, change.getFrom());
+        assertEquals(1, change.getRemovedSize());
+        assertTrue(requestedOffsets.isEmpty());
+
+        // La page 1 prend la première ligne de la page 2, qui ne peut pas compléter la sienne
+        assertSame(kept, list.get(12));
+        assertEquals(17, list.get(15).getId());
+        assertEquals(21, list.get(19).getId());
+        assertNotNull(list.findLoaded(21));
+        assertNull(list.get(20));
+        drain();
+        assertEquals(22, list.get(20).getId());
+        assertFalse(list.removeItem(16));
+    }
+
+    @Test
+    @DisplayName("Une page à laquelle il manque une ligne après suppression est relue")
+    void testIncompletePageIsReloaded() {
+        list.reload();
+        drain();
+        ItemRow kept = list.get(5);
+        drain();
+        requestedOffsets.clear();
+
+        data = new ArrayList<>(data);
+        data.remove(0);
+        assertTrue(list.removeItem(1));
+
+        // La page 1 a cédé sa première ligne à la page 0 sans pouvoir lire la suivante
+        assertNull(list.findLoaded(12));
+        assertSame(kept, list.get(4));
+        assertTrue(requestedOffsets.contains(10));
+        drain();
+        assertEquals(12, list.get(10).getId());
+        assertEquals(20, list.get(18).getId());
+    }
+
+    @Test
+    @DisplayName("Une création insère sa ligne sans relire la liste")
+    void testInsertItemKeepsRows() {
+        list.reload();
+        drain();
+        ItemRow first = list.get(0);
+        ItemRow moved = list.get(3);
+        drain();
+        requestedOffsets.clear();
+
+        List<ListChangeListener.Change<? extends ItemRow>> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<ItemRow>) changes::add);
+        Item created = items(1, 100).get(0);
+        list.insertItem(2, created);
+
+        assertEquals(36, list.size());
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends ItemRow> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasAdded() && !change.wasRemoved());
+        assertEquals(2, change.getFrom());
+        assertEquals(3, change.getTo());
+
+        assertTrue(requestedOffsets.isEmpty());
+        assertSame(first, list.get(0));
+        assertEquals(100, list.get(2).getId());
+        assertSame(moved, list.get(4));
+        assertEquals(10, list.get(10).getId(), "La dernière ligne de la page 0 passe en tête de la page 1");
+    }
+
+    @Test
+    @DisplayName("Une lecture en cours lors d'une modification est relancée")
+    void testPendingPageIsRequestedAgainAfterEdit() {
+        list.reload();
+        drain();
+        list.get(25);
+        Runnable stale = responses.poll();
+        requestedOffsets.clear();
+
+        data = new ArrayList<>(data);
+        data.remove(0);
+        assertTrue(list.removeItem(1));
+        assertEquals(List.of(20), requestedOffsets);
+
+        stale.run();
+        assertNull(list.findLoaded(21), "La réponse d'avant la suppression est ignorée");
+        drain();
+        assertEquals(22, list.get(20).getId());
+    }
+
+    @Test
+    @DisplayName("Un changement de taille au rafraîchissement ne réinitialise pas la table")
+    void testRefreshResizesAtTail() {
+        list.reload();
+        drain();
+
+        // Sous-changements relevés à la volée : {début, fin, retirés}
+        List<int[]> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<ItemRow>) change -> {
+            while (change.next()) {
+                changes.add(new int[]{change.getFrom(), change.getTo(), change.getRemovedSize()});
+            }
+        });
+        data = new ArrayList<>(data);
+        data.addAll(items(2, 200));
+        list.refresh();
+        drain();
+
+        assertEquals(37, list.size());
+        assertTrue(changes.stream().anyMatch(change -> change[0] == 35 && change[1] == 37 && change[2] == 0),
+            "Les nouvelles lignes sont ajoutées en fin de liste");
+        for (int[] change : changes) {
+            assertTrue(change[2] == 0 || change[2] == change[1] - change[0],
+                "Les lignes existantes sont remplacées une à une");
+        }
+    }
+}
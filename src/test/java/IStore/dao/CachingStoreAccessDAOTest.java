@@ -0,0 +1,75 @@
+package IStore.dao;
+
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Role;
+import IStore.model.Store;
+import IStore.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du cache des droits d'accès sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class CachingStoreAccessDAOTest {
+
+    private CachingStoreAccessDAO accessDAO;
+    private User employee;
+    private Store storeA;
+    private Store storeB;
+
+    @BeforeEach
+    void setUp() {
+        DAOFactory daoFactory = new InMemoryDAOFactory();
+        accessDAO = new CachingStoreAccessDAO(daoFactory.getStoreAccessDAO());
+        employee = daoFactory.getUserDAO().create(new User("employe@test.com", "Employe", "hash", Role.EMPLOYEE));
+        storeA = daoFactory.getStoreDAO().create(new Store("Magasin A"));
+        storeB = daoFactory.getStoreDAO().create(new Store("Magasin B"));
+    }
+
+    @Test
+    @DisplayName("Les contrôles répétés sont servis par le cache")
+    void testRepeatedChecksHitCache() {
+        accessDAO.addAccess(employee.getId(), storeA.getId());
+        accessDAO.preload(employee.getId());
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(accessDAO.hasAccess(employee.getId(), storeA.getId()));
+            assertFalse(accessDAO.hasAccess(employee.getId(), storeB.getId()));
+        }
+
+        assertEquals(1, accessDAO.getStats().getMisses());
+        assertEquals(20, accessDAO.getStats().getHits());
+    }
+
+    @Test
+    @DisplayName("Ajout et retrait d'accès invalident le cache")
+    void testWritesInvalidate() {
+        assertFalse(accessDAO.hasAccess(employee.getId(), storeB.getId()));
+
+        accessDAO.addAccess(employee.getId(), storeB.getId());
+        assertTrue(accessDAO.hasAccess(employee.getId(), storeB.getId()));
+
+        accessDAO.removeAccess(employee.getId(), storeB.getId());
+        assertFalse(accessDAO.hasAccess(employee.getId(), storeB.getId()));
+
+        accessDAO.addAccess(employee.getId(), storeA.getId());
+        assertTrue(accessDAO.hasAccess(employee.getId(), storeA.getId()));
+        accessDAO.removeAllAccessForStore(storeA.getId());
+        assertFalse(accessDAO.hasAccess(employee.getId(), storeA.getId()));
+    }
+
+    @Test
+    @DisplayName("Les IDs accessibles sont triés")
+    void testAccessibleStoreIdsSorted() {
+        accessDAO.addAccess(employee.getId(), storeB.getId());
+        accessDAO.addAccess(employee.getId(), storeA.getId());
+
+        assertArrayEquals(new int[]{storeA.getId(), storeB.getId()}, accessDAO.getAccessibleStoreIds(employee.getId()));
+    }
+}
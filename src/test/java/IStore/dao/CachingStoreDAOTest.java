@@ -0,0 +1,80 @@
+package IStore.dao;
+
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du cache des magasins sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class CachingStoreDAOTest {
+
+    private CachingStoreDAO storeDAO;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        storeDAO = new CachingStoreDAO(new InMemoryDAOFactory().getStoreDAO(), 0);
+        store = storeDAO.create(new Store("Magasin A"));
+    }
+
+    @Test
+    @DisplayName("Les lectures répétées sont servies par le cache")
+    void testReadsHitCache() {
+        assertEquals(1, storeDAO.findAll().size());
+        assertTrue(storeDAO.findById(store.getId()).isPresent());
+        assertTrue(storeDAO.nameExists("magasin a"));
+        assertEquals(store.getId(), storeDAO.findByName(" MAGASIN A ").orElseThrow().getId());
+
+        assertEquals(1, storeDAO.getStats().getMisses());
+        assertEquals(1, storeDAO.getStats().getHits());
+    }
+
+    @Test
+    @DisplayName("Le nom d'un magasin marqué supprimé reste réservé jusqu'à la purge")
+    void testMarkedStoreNameStaysReserved() {
+        storeDAO.findAll();
+
+        assertTrue(storeDAO.markDeleted(store.getId()));
+
+        assertTrue(storeDAO.findAll().isEmpty());
+        assertTrue(storeDAO.findById(store.getId()).isEmpty());
+        assertTrue(storeDAO.nameExists("Magasin A"));
+        assertEquals(store.getId(), storeDAO.findByName("magasin a").orElseThrow().getId());
+
+        storeDAO.delete(store.getId());
+        assertFalse(storeDAO.nameExists("Magasin A"));
+    }
+
+    @Test
+    @DisplayName("Les écritures invalident le cache")
+    void testWritesInvalidate() {
+        storeDAO.findAll();
+
+        storeDAO.create(new Store("Magasin B"));
+        assertEquals(2, storeDAO.findAll().size());
+
+        store.setName("Magasin C");
+        storeDAO.update(store);
+        assertTrue(storeDAO.nameExists("Magasin C"));
+        assertFalse(storeDAO.nameExists("Magasin A"));
+
+        storeDAO.delete(store.getId());
+        assertTrue(storeDAO.findById(store.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Les magasins retournés sont des copies")
+    void testReturnsCopies() {
+        storeDAO.findById(store.getId()).orElseThrow().setName("Modifié");
+
+        assertEquals("Magasin A", storeDAO.findById(store.getId()).orElseThrow().getName());
+    }
+}
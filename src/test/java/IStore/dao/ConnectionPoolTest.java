@@ -0,0 +1,256 @@
+package IStore.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour le pool de connexions (sans base de données).
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ConnectionPoolTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger closed = new AtomicInteger();
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+    private final AtomicInteger prepared = new AtomicInteger();
+    private final AtomicInteger statementsClosed = new AtomicInteger();
+    private ConnectionPool pool;
+
+    private Connection fakeConnection() {
+        created.incrementAndGet();
+        AtomicBoolean isClosed = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{Connection.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "isValid" -> valid.get();
+                case "isClosed" -> isClosed.get();
+                case "getAutoCommit" -> true;
+                case "isWrapperFor" -> false;
+                case "prepareStatement" -> fakeStatement();
+                case "close" -> {
+                    isClosed.set(true);
+                    closed.incrementAndGet();
+                    yield null;
+                }
+                default -> null;
+            });
+    }
+
+    private PreparedStatement fakeStatement() {
+        prepared.incrementAndGet();
+        AtomicBoolean isClosed = new AtomicBoolean();
+        return (PreparedStatement) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{PreparedStatement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "isClosed" -> isClosed.get();
+                case "close" -> {
+                    isClosed.set(true);
+                    statementsClosed.incrementAndGet();
+                    yield null;
+                }
+                default -> null;
+            });
+    }
+
+    private ConnectionPool newPool(int min, int max, long idleTimeoutMs, long borrowTimeoutMs) {
+        pool = new ConnectionPool(this::fakeConnection, min, max, idleTimeoutMs, borrowTimeoutMs, 1);
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Une connexion rendue est réutilisée")
+    void testConnectionIsReused() throws SQLException {
+        newPool(0, 2, 0, 100);
+
+        Connection first = pool.borrow();
+        first.close();
+        Connection second = pool.borrow();
+        second.close();
+
+        assertEquals(1, created.get(), "Une seule connexion physique doit être créée");
+        assertEquals(0, closed.get());
+        assertEquals(2, pool.getStats().getBorrowCount());
+    }
+
+    @Test
+    @DisplayName("Le pool respecte la taille maximale")
+    void testMaxSizeIsEnforced() throws SQLException {
+        newPool(0, 1, 0, 50);
+
+        Connection held = pool.borrow();
+        assertThrows(SQLException.class, () -> pool.borrow());
+        assertEquals(1, pool.getStats().getTimeoutCount());
+
+        held.close();
+        pool.borrow().close();
+    }
+
+    @Test
+    @DisplayName("Les connexions invalides sont écartées à l'emprunt")
+    void testValidationOnBorrow() throws SQLException {
+        newPool(1, 2, 0, 100);
+        pool.warmUp();
+
+        valid.set(false);
+        Connection connection = pool.borrow();
+        connection.close();
+
+        assertEquals(2, created.get(), "Une nouvelle connexion doit remplacer l'invalide");
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    @DisplayName("Les compteurs actives/inactives sont exacts")
+    void testActiveIdleCounts() throws SQLException {
+        newPool(0, 3, 0, 100);
+
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+        assertEquals(2, pool.getStats().getActive());
+        assertEquals(0, pool.getStats().getIdle());
+
+        a.close();
+        a.close(); // double fermeture sans effet
+        assertEquals(1, pool.getStats().getActive());
+        assertEquals(1, pool.getStats().getIdle());
+        assertTrue(a.isClosed());
+
+        b.close();
+        assertEquals(0, pool.getStats().getActive());
+        assertEquals(2, pool.getStats().getIdle());
+    }
+
+    @Test
+    @DisplayName("Les connexions inactives au-delà du minimum sont évincées")
+    void testIdleEviction() throws SQLException, InterruptedException {
+        newPool(1, 3, 10, 100);
+
+        Connection a = pool.borrow();
+        Connection b = pool.borrow();
+        Connection c = pool.borrow();
+        a.close();
+        b.close();
+        c.close();
+        assertEquals(3, pool.getStats().getIdle());
+
+        Thread.sleep(30);
+        pool.evictIdle();
+
+        assertEquals(1, pool.getStats().getIdle(), "Le pool doit conserver sa taille minimale");
+        assertEquals(2, closed.get());
+    }
+
+    @Test
+    @DisplayName("Une instruction préparée est réutilisée d'un emprunt à l'autre")
+    void testStatementCacheReusesStatements() throws SQLException {
+        pool = new ConnectionPool(this::fakeConnection, 0, 1, 0, 100, 1, 8);
+        String sql = "SELECT COUNT(*) FROM store_access WHERE user_id = ? AND store_id = ?";
+
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = pool.borrow();
+                 PreparedStatement pstmt = connection.prepareStatement(sql)) {
+                pstmt.setInt(1, i);
+                assertSame(connection, pstmt.getConnection());
+            }
+        }
+
+        assertEquals(1, prepared.get(), "La requête ne doit être préparée qu'une fois");
+        assertEquals(0, statementsClosed.get());
+        assertEquals(2, pool.getStatementCacheStats().getHits());
+        assertEquals(1, pool.getStatementCacheStats().getMisses());
+    }
+
+    @Test
+    @DisplayName("Le cache d'instructions évince la moins récemment utilisée")
+    void testStatementCacheEvictsLeastRecentlyUsed() throws SQLException {
+        pool = new ConnectionPool(this::fakeConnection, 0, 1, 0, 100, 1, 2);
+
+        try (Connection connection = pool.borrow()) {
+            connection.prepareStatement("A").close();
+            connection.prepareStatement("B").close();
+            connection.prepareStatement("A").close();
+            connection.prepareStatement("C").close();   // évince B
+            assertEquals(1, statementsClosed.get());
+
+            connection.prepareStatement("A").close();
+            connection.prepareStatement("B").close();
+        }
+
+        assertEquals(4, prepared.get(), "B doit être préparée à nouveau après éviction");
+        assertEquals(2, pool.getStatementCacheStats().getHits());
+    }
+
+    @Test
+    @DisplayName("Une instruction déjà prêtée n'est pas partagée")
+    void testStatementInUseIsNotShared() throws SQLException {
+        pool = new ConnectionPool(this::fakeConnection, 0, 1, 0, 100, 1, 8);
+
+        try (Connection connection = pool.borrow()) {
+            PreparedStatement outer = connection.prepareStatement("SELECT 1");
+            PreparedStatement inner = connection.prepareStatement("SELECT 1");
+            assertNotSame(outer, inner);
+
+            inner.close();
+            assertEquals(1, statementsClosed.get(), "L'instruction hors cache est fermée normalement");
+            outer.close();
+            assertTrue(outer.isClosed());
+            assertThrows(SQLException.class, () -> outer.setInt(1, 1));
+        }
+
+        assertEquals(2, prepared.get());
+        assertEquals(1, statementsClosed.get());
+    }
+
+    @Test
+    @DisplayName("Les requêtes construites à la volée contournent le cache")
+    void testDynamicStatementsBypassCache() throws SQLException {
+        pool = new ConnectionPool(this::fakeConnection, 0, 1, 0, 100, 1, 8);
+
+        for (int i = 1; i <= 3; i++) {
+            String sql = "SELECT id FROM items WHERE id IN (" + "?, ".repeat(i - 1) + "?)";
+            try (Connection connection = pool.borrow()) {
+                DatabaseManager.prepareDynamic(connection, sql).close();
+            }
+        }
+
+        assertEquals(3, prepared.get());
+        assertEquals(3, statementsClosed.get(), "Les instructions hors cache sont fermées normalement");
+        assertEquals(0, pool.getStatementCacheStats().getMisses());
+    }
+
+    @Test
+    @DisplayName("Sans cache, chaque préparation va à la connexion physique")
+    void testStatementCacheDisabledByDefault() throws SQLException {
+        newPool(0, 1, 0, 100);
+
+        for (int i = 0; i < 2; i++) {
+            try (Connection connection = pool.borrow()) {
+                connection.prepareStatement("SELECT 1").close();
+            }
+        }
+
+        assertEquals(2, prepared.get());
+        assertEquals(2, statementsClosed.get());
+    }
+}
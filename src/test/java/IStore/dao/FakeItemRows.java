@@ -0,0 +1,79 @@
+package IStore.dao;
+
+import IStore.model.Item;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSet en mémoire sur {@code rows} lignes d'articles, avec compteur d'appels à findColumn.
+ * Résout les noms comme le pilote, par recherche insensible à la casse dans les libellés des colonnes.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+final class FakeItemRows {
+    static final String[] LABELS = {"id", "name", "price", "quantity", "store_id"};
+    private static final String[] NAMES = new String[1024];
+
+    static {
+        for (int i = 0; i < NAMES.length; i++) {
+            NAMES[i] = "Article " + i;
+        }
+    }
+
+    /** Conversion d'avant : chaque accès cherche la colonne par son nom */
+    static final RowMapper<Item> BY_NAME = rs -> new Item(
+        rs.getInt("id"),
+        rs.getString("name"),
+        rs.getDouble("price"),
+        rs.getInt("quantity"),
+        rs.getInt("store_id")
+    );
+
+    final int rows;
+    int row;
+    long lookups;
+
+    FakeItemRows(int rows) {
+        this.rows = rows;
+    }
+
+    ResultSet resultSet() {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+            new Class<?>[] {ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "next" -> ++row <= rows;
+                case "findColumn" -> findColumn((String) args[0]);
+                case "getInt" -> (int) value(column(args[0]));
+                case "getDouble" -> (double) value(column(args[0]));
+                case "getString" -> (String) value(column(args[0]));
+                case "close" -> null;
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private int column(Object arg) throws SQLException {
+        return arg instanceof Integer index ? index : findColumn((String) arg);
+    }
+
+    private int findColumn(String label) throws SQLException {
+        lookups++;
+        for (int i = 0; i < LABELS.length; i++) {
+            if (LABELS[i].equalsIgnoreCase(label)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException("Colonne inconnue: " + label);
+    }
+
+    private Object value(int column) {
+        return switch (column) {
+            case 1 -> row;
+            case 2 -> NAMES[row & (NAMES.length - 1)];
+            case 3 -> row * 0.5;
+            case 4 -> row % 100;
+            default -> 1;
+        };
+    }
+}
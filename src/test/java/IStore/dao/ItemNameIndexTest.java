@@ -0,0 +1,115 @@
+package IStore.dao;
+
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Item;
+import IStore.model.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'index des noms d'articles sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class ItemNameIndexTest {
+
+    private ItemDAO itemDAO;
+    private int storeId;
+    private int otherStoreId;
+    // Exécuté pendant la lecture des articles, après le chargement
+    private final List<Runnable> duringBuild = new ArrayList<>();
+    private ItemNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        DAOFactory daoFactory = new InMemoryDAOFactory();
+        storeId = daoFactory.getStoreDAO().create(new Store("Magasin A")).getId();
+        otherStoreId = daoFactory.getStoreDAO().create(new Store("Magasin B")).getId();
+        itemDAO = daoFactory.getItemDAO();
+
+        ItemDAO readHook = (ItemDAO) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{ItemDAO.class},
+            (proxy, method, args) -> {
+                try {
+                    Object result = method.invoke(itemDAO, args);
+                    if (method.getName().equals("findByStoreId")) {
+                        duringBuild.forEach(Runnable::run);
+                        duringBuild.clear();
+                    }
+                    return result;
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        index = new ItemNameIndex(readHook);
+    }
+
+    private void save(Item item) {
+        if (item.getId() == 0) {
+            itemDAO.create(item);
+        } else {
+            itemDAO.update(item);
+        }
+        index.itemSaved(item);
+    }
+
+    @Test
+    @DisplayName("Les écritures reçues pendant la construction ne sont pas perdues")
+    void testWritesDuringBuildAreReplayed() {
+        Item kept = itemDAO.create(new Item("Marteau", 10, 1, storeId));
+        Item renamed = itemDAO.create(new Item("Tournevis", 5, 1, storeId));
+        Item removed = itemDAO.create(new Item("Perceuse", 50, 1, storeId));
+
+        duringBuild.add(() -> save(new Item("Clou", 0.1, 100, storeId)));
+        duringBuild.add(() -> save(new Item(renamed.getId(), "Clé anglaise", 5, 1, storeId)));
+        duringBuild.add(() -> {
+            itemDAO.delete(removed.getId());
+            index.itemRemoved(removed.getId());
+        });
+
+        assertFalse(index.isBuilt(storeId));
+        assertEquals(1, index.forStore(storeId).search("marteau", 10).length);
+        assertTrue(index.isBuilt(storeId));
+
+        assertEquals(1, index.forStore(storeId).search("clou", 10).length);
+        assertEquals(1, index.forStore(storeId).search("anglaise", 10).length);
+        assertEquals(0, index.forStore(storeId).search("tournevis", 10).length);
+        assertEquals(0, index.forStore(storeId).search("perceuse", 10).length);
+        assertTrue(index.forStore(storeId).contains(kept.getId()));
+    }
+
+    @Test
+    @DisplayName("Un article déplacé pendant la construction quitte l'index")
+    void testMoveDuringBuildIsReplayed() {
+        Item moved = itemDAO.create(new Item("Marteau", 10, 1, storeId));
+
+        duringBuild.add(() -> save(new Item(moved.getId(), "Marteau", 10, 1, otherStoreId)));
+
+        assertFalse(index.forStore(storeId).contains(moved.getId()));
+        assertTrue(index.forStore(otherStoreId).contains(moved.getId()));
+    }
+
+    @Test
+    @DisplayName("Un magasin invalidé pendant la construction n'est pas publié")
+    void testInvalidateDuringBuild() {
+        itemDAO.create(new Item("Marteau", 10, 1, storeId));
+
+        duringBuild.add(() -> index.invalidateStore(storeId));
+
+        assertEquals(1, index.forStore(storeId).search("marteau", 10).length);
+        assertFalse(index.isBuilt(storeId));
+
+        index.forStore(storeId);
+        assertTrue(index.isBuilt(storeId));
+    }
+}
@@ -0,0 +1,63 @@
+package IStore.dao;
+
+import IStore.model.Page;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour les curseurs de pagination keyset.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Un curseur encodé puis décodé conserve sa clé et son ID")
+    void testRoundTrip() {
+        KeysetCursor cursor = KeysetCursor.decode(new KeysetCursor("Café: crème", 42).encode());
+
+        assertEquals("Café: crème", cursor.getKey());
+        assertEquals(42, cursor.getId());
+    }
+
+    @Test
+    @DisplayName("Un curseur absent désigne la première page")
+    void testNullCursor() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(""));
+    }
+
+    @Test
+    @DisplayName("Un curseur mal formé est rejeté")
+    void testInvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("pas un curseur"));
+    }
+
+    @Test
+    @DisplayName("La ligne supplémentaire produit un curseur de continuation")
+    void testToPage() {
+        Page<Integer> last = KeysetCursor.toPage(List.of(1, 2), 2, i -> new KeysetCursor(null, i));
+        assertFalse(last.hasNext());
+        assertEquals(2, last.getItems().size());
+
+        Page<Integer> partial = KeysetCursor.toPage(List.of(1, 2, 3), 2, i -> new KeysetCursor(null, i));
+        assertTrue(partial.hasNext());
+        assertEquals(List.of(1, 2), partial.getItems());
+        assertEquals(2, KeysetCursor.decode(partial.getNextCursor()).getId());
+    }
+
+    @Test
+    @DisplayName("Un curseur (magasin, nom) conserve ses deux composantes")
+    void testStoreAndNameCursor() {
+        KeysetCursor decoded = KeysetCursor.decode(KeysetCursor.ofStoreAndName(12, "Câble: 2m", 7).encode());
+        assertEquals(12, decoded.getStoreIdOfKey());
+        assertEquals("Câble: 2m", decoded.getNameOfKey());
+        assertEquals(7, decoded.getId());
+        assertThrows(IllegalArgumentException.class, () -> new KeysetCursor("sans magasin", 1).getStoreIdOfKey());
+    }
+}
@@ -0,0 +1,69 @@
+package IStore.dao;
+
+import IStore.model.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Coût de conversion par ligne sur un parcours d'un million de lignes :
+ * lecture par nom de colonne (avant) contre positions résolues une fois par
+ * ResultSet (après). Hors de la suite par défaut ; à lancer avec
+ * {@code mvn test -Dgroups=benchmark -Dsurefire.excludedGroups=}.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+@Tag("benchmark")
+public class RowMappingBenchmarkTest {
+
+    private static final int ROWS = 1_000_000;
+
+    // Puits : empêche le JIT d'éliminer les conversions mesurées
+    private long sink;
+
+    private long scanByName(FakeItemRows rows) throws SQLException {
+        ResultSet rs = rows.resultSet();
+        long start = System.nanoTime();
+        while (rs.next()) {
+            sink += FakeItemRows.BY_NAME.mapRow(rs).getQuantity();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private long scanCompiled(FakeItemRows rows) throws SQLException {
+        ResultSet rs = rows.resultSet();
+        long start = System.nanoTime();
+        RowMapper<Item> mapper = RowMappings.ITEM.compile(rs);
+        while (rs.next()) {
+            sink += mapper.mapRow(rs).getQuantity();
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    @DisplayName("Coût par ligne : conversion par index contre conversion par nom")
+    void benchmarkRowMapping() throws SQLException {
+        // Échauffement : compilation JIT des deux chemins
+        scanByName(new FakeItemRows(ROWS / 10));
+        scanCompiled(new FakeItemRows(ROWS / 10));
+
+        FakeItemRows byName = new FakeItemRows(ROWS);
+        long byNameNanos = scanByName(byName);
+        FakeItemRows compiled = new FakeItemRows(ROWS);
+        long compiledNanos = scanCompiled(compiled);
+
+        System.out.printf("Conversion de %d lignes : par nom %.1f ns/ligne (%d résolutions), "
+                + "par index %.1f ns/ligne (%d résolutions)%n",
+            ROWS, (double) byNameNanos / ROWS, byName.lookups,
+            (double) compiledNanos / ROWS, compiled.lookups);
+
+        assertEquals(FakeItemRows.LABELS.length, compiled.lookups);
+        assertTrue(sink > 0);
+    }
+}
@@ -0,0 +1,88 @@
+package IStore.dao;
+
+import IStore.model.Item;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Conversion des lignes en objets : lecture par nom de colonne (avant) contre
+ * positions résolues une fois par ResultSet (après), comptée sur un ResultSet simulé.
+ * Le coût par ligne est mesuré à part par {@link RowMappingBenchmarkTest}.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class RowMappingTest {
+
+    private static final int ROWS = 10_000;
+
+    private static void scanByName(FakeItemRows rows) throws SQLException {
+        ResultSet rs = rows.resultSet();
+        while (rs.next()) {
+            FakeItemRows.BY_NAME.mapRow(rs);
+        }
+    }
+
+    private static void scanCompiled(FakeItemRows rows) throws SQLException {
+        ResultSet rs = rows.resultSet();
+        RowMapper<Item> mapper = RowMappings.ITEM.compile(rs);
+        while (rs.next()) {
+            mapper.mapRow(rs);
+        }
+    }
+
+    @Test
+    @DisplayName("Un parcours compilé ne résout les colonnes qu'une fois")
+    void testCompiledScanResolvesColumnsOnce() throws SQLException {
+        FakeItemRows byName = new FakeItemRows(ROWS);
+        scanByName(byName);
+        FakeItemRows compiled = new FakeItemRows(ROWS);
+        scanCompiled(compiled);
+
+        assertEquals((long) ROWS * FakeItemRows.LABELS.length, byName.lookups);
+        assertEquals(FakeItemRows.LABELS.length, compiled.lookups);
+    }
+
+    @Test
+    @DisplayName("La conversion par index donne les mêmes articles que la conversion par nom")
+    void testCompiledMappingMatchesByName() throws SQLException {
+        ResultSet byName = new FakeItemRows(50).resultSet();
+        List<Item> expected = new ArrayList<>();
+        while (byName.next()) {
+            expected.add(FakeItemRows.BY_NAME.mapRow(byName));
+        }
+
+        List<Item> actual = RowMappings.ITEM.readAll(new FakeItemRows(50).resultSet(), new ArrayList<>());
+
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Item want = expected.get(i);
+            Item got = actual.get(i);
+            assertEquals(want.getId(), got.getId());
+            assertEquals(want.getName(), got.getName());
+            assertEquals(want.getPrice(), got.getPrice());
+            assertEquals(want.getQuantity(), got.getQuantity());
+            assertEquals(want.getStoreId(), got.getStoreId());
+        }
+    }
+
+    @Test
+    @DisplayName("Liste explicite de colonnes et lecture de la première ligne")
+    void testColumnsAndReadFirst() throws SQLException {
+        assertEquals("id, name, price, quantity, store_id", RowMappings.ITEM.columns());
+        assertEquals("i.id, i.name, i.price, i.quantity, i.store_id", RowMappings.ITEM.columns("i"));
+        assertFalse(RowMappings.USER_SUMMARY.columns().contains("password"));
+
+        Optional<Item> first = RowMappings.ITEM.readFirst(new FakeItemRows(3).resultSet());
+        assertEquals(1, first.map(Item::getId).orElse(-1));
+        assertTrue(RowMappings.ITEM.readFirst(new FakeItemRows(0).resultSet()).isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package IStore.service;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.UserDAO;
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Role;
+import IStore.model.User;
+import IStore.model.Whitelist;
+import IStore.util.PasswordUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de l'inscription sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class AuthServiceRegistrationTest {
+
+    private static final String PASSWORD = "password123";
+
+    private DAOFactory daoFactory;
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        daoFactory = new InMemoryDAOFactory();
+        authService = new AuthService(daoFactory);
+    }
+
+    private AuthService.AuthResult register(String email, String pseudo) {
+        return authService.register(email, pseudo, PASSWORD, PASSWORD);
+    }
+
+    @Test
+    @DisplayName("Le premier inscrit devient admin, les suivants consomment leur entrée de whitelist")
+    void testFirstAdminThenWhitelistedEmployee() {
+        AuthService.AuthResult admin = register("Admin@Test.com ", "Admin");
+        assertTrue(admin.isSuccess());
+        assertEquals(Role.ADMIN, admin.getUser().getRole());
+        assertEquals("admin@test.com", admin.getUser().getEmail());
+        assertNull(admin.getUser().getPassword(), "Le hash ne doit pas être retourné");
+
+        daoFactory.getWhitelistDAO().create(new Whitelist("employe@test.com"));
+        AuthService.AuthResult employee = register("employe@test.com", "Employe");
+
+        assertTrue(employee.isSuccess());
+        assertEquals(Role.EMPLOYEE, employee.getUser().getRole());
+        assertFalse(daoFactory.getWhitelistDAO().isWhitelisted("employe@test.com"), "L'entrée doit être consommée");
+        User stored = daoFactory.getUserDAO().findByEmail("employe@test.com").orElseThrow();
+        assertTrue(PasswordUtil.verifyPassword(PASSWORD, stored.getPassword()));
+    }
+
+    @Test
+    @DisplayName("Email hors whitelist ou déjà utilisé : inscription refusée")
+    void testRejections() {
+        register("admin@test.com", "Admin");
+
+        assertFalse(register("inconnu@test.com", "Inconnu").isSuccess());
+        assertFalse(register("ADMIN@test.com", "Doublon").isSuccess());
+        assertEquals(1, daoFactory.getUserDAO().count());
+    }
+
+    @Test
+    @DisplayName("La sonde lit l'état de l'email en une fois")
+    void testProbe() {
+        UserDAO userDAO = daoFactory.getUserDAO();
+        UserDAO.RegistrationProbe empty = userDAO.probeRegistration("a@test.com");
+        assertTrue(empty.isFirstUser());
+        assertFalse(empty.isEmailTaken());
+        assertFalse(empty.isWhitelisted());
+
+        register("a@test.com", "Alice");
+        daoFactory.getWhitelistDAO().create(new Whitelist("b@test.com"));
+
+        assertTrue(userDAO.probeRegistration("A@test.com").isEmailTaken());
+        UserDAO.RegistrationProbe invited = userDAO.probeRegistration("b@test.com");
+        assertFalse(invited.isFirstUser());
+        assertTrue(invited.isWhitelisted());
+    }
+
+    @Test
+    @DisplayName("Une sonde devancée ne donne pas un second admin")
+    void testRoleIsDecidedInTransaction() {
+        UserDAO userDAO = daoFactory.getUserDAO();
+        assertTrue(userDAO.probeRegistration("b@test.com").isFirstUser());
+
+        // Une autre inscription passe entre la sonde et la transaction
+        assertEquals(UserDAO.RegistrationStatus.CREATED,
+            userDAO.register(new User("a@test.com", "A", "hash", Role.EMPLOYEE)));
+
+        User late = new User("b@test.com", "B", "hash", Role.EMPLOYEE);
+        assertEquals(UserDAO.RegistrationStatus.NOT_WHITELISTED, userDAO.register(late));
+        assertEquals(1, userDAO.count());
+    }
+
+    @Test
+    @DisplayName("Des premières inscriptions simultanées ne créent qu'un admin")
+    void testConcurrentFirstRegistrations() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AuthService.AuthResult>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                String email = "user" + i + "@test.com";
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return register(email, "User");
+                }));
+            }
+            start.countDown();
+
+            int admins = 0;
+            for (Future<AuthService.AuthResult> result : results) {
+                AuthService.AuthResult outcome = result.get();
+                if (outcome.isSuccess()) {
+                    assertEquals(Role.ADMIN, outcome.getUser().getRole());
+                    admins++;
+                }
+            }
+            assertEquals(1, admins);
+            assertEquals(1, daoFactory.getUserDAO().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package IStore.service;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Item;
+import IStore.model.ItemQuery;
+import IStore.model.Page;
+import IStore.model.Role;
+import IStore.model.Store;
+import IStore.model.User;
+import IStore.util.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du service d'inventaire sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class InventoryServiceTest {
+
+    private DAOFactory daoFactory;
+    private InventoryService inventoryService;
+    private User admin;
+    private User employee;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        daoFactory = new InMemoryDAOFactory();
+        inventoryService = new InventoryService(daoFactory);
+        admin = daoFactory.getUserDAO().create(new User("admin@test.com", "Admin", "hash", Role.ADMIN));
+        employee = daoFactory.getUserDAO().create(new User("employe@test.com", "Employe", "hash", Role.EMPLOYEE));
+        store = daoFactory.getStoreDAO().create(new Store("Magasin Test"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionManager.logout();
+    }
+
+    @Test
+    @DisplayName("Seul un administrateur peut créer un article")
+    void testCreateItemRequiresAdmin() {
+        SessionManager.setCurrentUser(employee);
+        assertFalse(inventoryService.createItem("Stylo", "1.5", "10", store.getId()).isSuccess());
+
+        SessionManager.setCurrentUser(admin);
+        InventoryService.ServiceResult result = inventoryService.createItem("Stylo", "1.5", "10", store.getId());
+        assertTrue(result.isSuccess());
+        assertTrue(result.getItem().getId() > 0);
+    }
+
+    @Test
+    @DisplayName("Un employé ne voit que les magasins auxquels il a accès")
+    void testEmployeeAccess() {
+        SessionManager.setCurrentUser(admin);
+        inventoryService.createItem("Stylo", "1.5", "10", store.getId());
+
+        SessionManager.setCurrentUser(employee);
+        assertTrue(inventoryService.getItemsByStore(store.getId()).isEmpty());
+
+        daoFactory.getStoreAccessDAO().addAccess(employee.getId(), store.getId());
+        assertEquals(1, inventoryService.getItemsByStore(store.getId()).size());
+    }
+
+    @Test
+    @DisplayName("Les mouvements de stock sont appliqués et bornés")
+    void testStockChanges() {
+        SessionManager.setCurrentUser(admin);
+        Item item = inventoryService.createItem("Cahier", "3", "5", store.getId()).getItem();
+
+        InventoryService.ServiceResult increased = inventoryService.increaseStock(item, 7);
+        assertTrue(increased.isSuccess());
+        assertEquals(12, increased.getItem().getQuantity());
+
+        InventoryService.ServiceResult decreased = inventoryService.decreaseStock(item, 2);
+        assertTrue(decreased.isSuccess());
+        assertEquals(10, decreased.getItem().getQuantity());
+
+        InventoryService.ServiceResult refused = inventoryService.decreaseStock(item, 11);
+        assertFalse(refused.isSuccess());
+        assertEquals("Stock insuffisant. Stock actuel: 10", refused.getMessage());
+
+        assertFalse(inventoryService.increaseStock(item, 0).isSuccess());
+        InventoryService.ServiceResult missing =
+            inventoryService.increaseStock(new Item(9999, "Inconnu", 1, 0, store.getId()), 1);
+        assertEquals("Article non trouvé", missing.getMessage());
+
+        SessionManager.setCurrentUser(employee);
+        InventoryService.ServiceResult denied = inventoryService.decreaseStock(item, 1);
+        assertEquals("Vous n'avez pas accès à ce magasin", denied.getMessage());
+        SessionManager.setCurrentUser(admin);
+        assertEquals(10, inventoryService.getItemById(item.getId()).getQuantity());
+    }
+
+    @Test
+    @DisplayName("La création en masse signale les lignes invalides sans interrompre le lot")
+    void testCreateItemsReportsRowErrors() {
+        SessionManager.setCurrentUser(admin);
+        List<Item> items = List.of(
+            new Item("A", 1, 1, 0),
+            new Item("", 1, 1, 0),
+            new Item("C", -2, 1, 0),
+            new Item("D", 4, 1, 0));
+
+        InventoryService.BulkResult result = inventoryService.createItems(store.getId(), items, 2);
+
+        assertEquals(2, result.getCreatedItems().size());
+        assertEquals(List.of(1, 2), new ArrayList<>(result.getErrors().keySet()));
+        assertTrue(result.getCreatedItems().get(0).getId() < result.getCreatedItems().get(1).getId());
+    }
+
+    @Test
+    @DisplayName("La pagination keyset parcourt tous les articles dans l'ordre")
+    void testPagination() {
+        SessionManager.setCurrentUser(admin);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            items.add(new Item(String.format("Article %02d", i % 10), 1, 1, 0));
+        }
+        inventoryService.createItems(store.getId(), items);
+
+        List<Item> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<Item> page = inventoryService.getItemsByStore(store.getId(), cursor, 7);
+            all.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(inventoryService.getItemsByStore(store.getId()).stream().map(Item::getId).sorted().toList(),
+            all.stream().map(Item::getId).sorted().toList());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getName().compareTo(all.get(i).getName()) <= 0);
+        }
+    }
+
+    @Test
+    @DisplayName("La recherche filtre par nom, prix et stock, et trie selon la colonne demandée")
+    void testFindItemsWithFilters() {
+        SessionManager.setCurrentUser(admin);
+        inventoryService.createItems(store.getId(), List.of(
+            new Item("Stylo bleu", 1.5, 40, 0),
+            new Item("Stylo rouge", 2.0, 3, 0),
+            new Item("Cahier", 3.5, 2, 0),
+            new Item("Classeur bleu", 6.0, 12, 0)));
+        ItemQuery query = ItemQuery.forStore(store.getId());
+
+        assertEquals(List.of("Stylo bleu", "Stylo rouge"), names(query.withNamePrefix("sty")));
+        assertEquals(List.of("Classeur bleu", "Stylo bleu"), names(query.withNameContaining("BLEU")));
+        assertEquals(List.of("Cahier", "Stylo rouge"), names(query.withPriceRange(2.0, 4.0)));
+        assertEquals(List.of("Cahier", "Stylo rouge"), names(query.withLowStock(InventoryService.LOW_STOCK_THRESHOLD)));
+        assertEquals(List.of("Stylo bleu", "Classeur bleu", "Stylo rouge", "Cahier"),
+            names(query.withSort(ItemQuery.Sort.QUANTITY, true)));
+        assertEquals(List.of("Stylo rouge"),
+            names(query.withNameContaining("o").withPriceRange(1.8, null).withQuantityRange(1, 10)));
+        assertEquals(2, inventoryService.countItems(query.withNameContaining("bleu")));
+
+        SessionManager.setCurrentUser(employee);
+        assertEquals(0, inventoryService.countItems(query));
+        assertTrue(inventoryService.findItems(query, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("La position d'un article suit le tri et les filtres de la recherche")
+    void testIndexOfItem() {
+        SessionManager.setCurrentUser(admin);
+        List<Item> created = inventoryService.createItems(store.getId(), List.of(
+            new Item("Stylo bleu", 1.5, 40, 0),
+            new Item("Cahier", 3.5, 2, 0),
+            new Item("Classeur bleu", 6.0, 12, 0))).getCreatedItems();
+        ItemQuery query = ItemQuery.forStore(store.getId());
+        Item stylo = created.get(0);
+
+        for (ItemQuery sorted : List.of(query, query.withSort(ItemQuery.Sort.PRICE, true),
+                query.withSort(ItemQuery.Sort.QUANTITY, false), query.withNameContaining("bleu"))) {
+            List<Item> expected = inventoryService.findItems(sorted, 0, 10);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(i, inventoryService.indexOfItem(sorted, expected.get(i).getId()), sorted.toString());
+            }
+        }
+        assertEquals(-1, inventoryService.indexOfItem(query.withLowStock(5), stylo.getId()));
+        assertEquals(-1, inventoryService.indexOfItem(query, 9999));
+
+        SessionManager.setCurrentUser(employee);
+        assertEquals(-1, inventoryService.indexOfItem(query, stylo.getId()));
+    }
+
+    @Test
+    @DisplayName("La recherche par nom suit les créations, modifications et suppressions")
+    void testSearchItemsFollowsWrites() {
+        SessionManager.setCurrentUser(admin);
+        Item stylo = inventoryService.createItem("Stylo bleu", "1.5", "10", store.getId()).getItem();
+        inventoryService.createItem("Cahier", "3", "5", store.getId());
+
+        assertEquals(List.of(stylo.getId()),
+            inventoryService.searchItems(store.getId(), "styo", 10).stream().map(Item::getId).toList());
+
+        inventoryService.createItem("Stylo noir", "1.5", "10", store.getId());
+        inventoryService.updateItem(stylo.getId(), "Crayon", "1.5", "10");
+        assertEquals(List.of("Stylo noir"),
+            inventoryService.searchItems(store.getId(), "stylo", 10).stream().map(Item::getName).toList());
+
+        inventoryService.deleteItem(stylo.getId());
+        assertTrue(inventoryService.searchItems(store.getId(), "crayon", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("La recherche multi-magasins regroupe par magasin et respecte les accès")
+    void testSearchAllAccessibleStores() {
+        Store other = daoFactory.getStoreDAO().create(new Store("Autre magasin"));
+        Store closed = daoFactory.getStoreDAO().create(new Store("Magasin fermé"));
+        SessionManager.setCurrentUser(admin);
+        inventoryService.createItem("Stylo bleu", "1.5", "10", store.getId());
+        inventoryService.createItem("Stylo rouge", "1.5", "4", store.getId());
+        inventoryService.createItem("Cahier", "3", "5", store.getId());
+        inventoryService.createItem("Stylo bleu", "1.5", "7", other.getId());
+        inventoryService.createItem("Stylo vert", "1.5", "1", closed.getId());
+        daoFactory.getStoreDAO().markDeleted(closed.getId());
+
+        Page<InventoryService.StoreMatches> page = inventoryService.searchAllAccessibleStores("stylo");
+        assertFalse(page.hasNext());
+        assertEquals(List.of(store.getId(), other.getId()),
+            page.getItems().stream().map(m -> m.getStore().getId()).toList());
+        assertEquals(14, page.getItems().get(0).getTotalQuantity());
+        assertEquals(7, page.getItems().get(1).getTotalQuantity());
+
+        List<Integer> pagedIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<InventoryService.StoreMatches> next = inventoryService.searchAllAccessibleStores("stylo", cursor, 1);
+            // Une page d'un seul article porte le total de tout le magasin
+            assertEquals(next.getItems().get(0).getStore().getId() == store.getId() ? 14 : 7,
+                next.getItems().get(0).getTotalQuantity());
+            next.getItems().forEach(m -> m.getItems().forEach(item -> pagedIds.add(item.getId())));
+            cursor = next.getNextCursor();
+        } while (cursor != null);
+        assertEquals(page.getItems().stream().flatMap(m -> m.getItems().stream()).map(Item::getId).toList(), pagedIds);
+
+        SessionManager.setCurrentUser(employee);
+        assertTrue(inventoryService.searchAllAccessibleStores("stylo").getItems().isEmpty());
+        daoFactory.getStoreAccessDAO().addAccess(employee.getId(), other.getId());
+        List<InventoryService.StoreMatches> visible = inventoryService.searchAllAccessibleStores("stylo").getItems();
+        assertEquals(1, visible.size());
+        assertEquals(other.getId(), visible.get(0).getStore().getId());
+        assertTrue(inventoryService.searchAllAccessibleStores("  ").getItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Les lectures contrôlées en requête équivalent au contrôle d'accès en deux temps")
+    void testAccessCheckedReadsMatchTwoStepCheck() {
+        Store other = daoFactory.getStoreDAO().create(new Store("Autre magasin"));
+        User outsider = daoFactory.getUserDAO().create(new User("externe@test.com", "Externe", "hash", Role.EMPLOYEE));
+        daoFactory.getStoreAccessDAO().addAccess(employee.getId(), store.getId());
+        SessionManager.setCurrentUser(admin);
+        List<Integer> itemIds = new ArrayList<>();
+        for (Store s : List.of(store, other)) {
+            for (String name : List.of("Stylo", "Cahier", "Gomme")) {
+                itemIds.add(inventoryService.createItem(name, "1", "1", s.getId()).getItem().getId());
+            }
+        }
+        itemIds.add(9999);
+
+        for (User user : Arrays.asList(admin, employee, outsider, null)) {
+            SessionManager.setCurrentUser(user);
+            for (int storeId : List.of(store.getId(), other.getId(), 9999)) {
+                assertEquals(ids(twoStepItemsByStore(user, storeId)), ids(inventoryService.getItemsByStore(storeId)),
+                    "Magasin " + storeId + " pour " + user);
+            }
+            for (int itemId : itemIds) {
+                Item expected = twoStepItemById(user, itemId);
+                Item actual = inventoryService.getItemById(itemId);
+                assertEquals(expected == null ? null : expected.getId(), actual == null ? null : actual.getId(),
+                    "Article " + itemId + " pour " + user);
+            }
+        }
+    }
+
+    /** Ancien chemin : contrôle d'accès, puis lecture */
+    private List<Item> twoStepItemsByStore(User user, int storeId) {
+        return mayAccess(user, storeId) ? daoFactory.getItemDAO().findByStoreId(storeId) : List.of();
+    }
+
+    /** Ancien chemin : lecture de l'article, puis contrôle d'accès à son magasin */
+    private Item twoStepItemById(User user, int itemId) {
+        return daoFactory.getItemDAO().findById(itemId)
+            .filter(item -> mayAccess(user, item.getStoreId()))
+            .orElse(null);
+    }
+
+    private boolean mayAccess(User user, int storeId) {
+        return user != null && (user.isAdmin() || daoFactory.getStoreAccessDAO().hasAccess(user.getId(), storeId));
+    }
+
+    private static List<Integer> ids(List<Item> items) {
+        return items.stream().map(Item::getId).toList();
+    }
+
+    private List<String> names(ItemQuery query) {
+        return inventoryService.findItems(query, 0, 50).stream().map(Item::getName).toList();
+    }
+}
@@ -0,0 +1,71 @@
+package IStore.service;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Item;
+import IStore.model.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de la purge par lots des magasins supprimés, sur le moteur en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class StorePurgerTest {
+
+    private DAOFactory daoFactory;
+    private Store store;
+    private Store otherStore;
+
+    @BeforeEach
+    void setUp() {
+        daoFactory = new InMemoryDAOFactory();
+        store = daoFactory.getStoreDAO().create(new Store("Magasin A"));
+        otherStore = daoFactory.getStoreDAO().create(new Store("Magasin B"));
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            items.add(new Item("Article " + i, 1.0, 1, store.getId()));
+        }
+        items.add(new Item("Autre", 1.0, 1, otherStore.getId()));
+        daoFactory.getItemDAO().createAll(items);
+    }
+
+    @Test
+    @DisplayName("Un magasin marqué supprimé disparaît des listes")
+    void testMarkedStoreIsHidden() {
+        assertTrue(daoFactory.getStoreDAO().markDeleted(store.getId()));
+        assertFalse(daoFactory.getStoreDAO().markDeleted(store.getId()));
+
+        assertTrue(daoFactory.getStoreDAO().findById(store.getId()).isEmpty());
+        assertEquals(List.of(otherStore.getId()),
+            daoFactory.getStoreDAO().findAll().stream().map(Store::getId).toList());
+        assertEquals(List.of(store.getId()), daoFactory.getStoreDAO().findMarkedDeletedIds());
+    }
+
+    @Test
+    @DisplayName("Les articles sont purgés par lots avec suivi de progression")
+    void testPurgeInChunks() {
+        daoFactory.getStoreDAO().markDeleted(store.getId());
+        List<Integer> progress = new ArrayList<>();
+        StorePurger purger = new StorePurger(daoFactory.getItemDAO(), daoFactory.getStoreDAO(), 5);
+
+        assertTrue(purger.purge(store.getId(), (storeId, deleted, total, finished) -> {
+            assertEquals(12, total);
+            progress.add(deleted);
+        }));
+
+        assertEquals(List.of(5, 10, 12, 12), progress);
+        assertEquals(0, daoFactory.getItemDAO().countByStoreId(store.getId()));
+        assertEquals(1, daoFactory.getItemDAO().countByStoreId(otherStore.getId()));
+        assertTrue(daoFactory.getStoreDAO().findMarkedDeletedIds().isEmpty());
+        assertTrue(daoFactory.getStoreDAO().findByName("Magasin A").isEmpty());
+    }
+}
@@ -0,0 +1,103 @@
+package IStore.service;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Page;
+import IStore.model.Role;
+import IStore.model.Store;
+import IStore.model.User;
+import IStore.model.UserSummary;
+import IStore.util.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du service des magasins sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class StoreServiceTest {
+
+    private DAOFactory daoFactory;
+    private StoreService storeService;
+    private User admin;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        daoFactory = new InMemoryDAOFactory();
+        storeService = new StoreService(daoFactory);
+        admin = daoFactory.getUserDAO().create(new User("admin@test.com", "Admin", "hash", Role.ADMIN));
+        store = daoFactory.getStoreDAO().create(new Store("Magasin Test"));
+        SessionManager.setCurrentUser(admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionManager.logout();
+    }
+
+    private User employee(String pseudo) {
+        return daoFactory.getUserDAO().create(new User(pseudo.toLowerCase() + "@test.com", pseudo, "hash", Role.EMPLOYEE));
+    }
+
+    private static List<String> pseudos(Page<UserSummary> page) {
+        return page.getItems().stream().map(UserSummary::getPseudo).toList();
+    }
+
+    @Test
+    @DisplayName("Seuls les utilisateurs sans accès au magasin sont proposés")
+    void testAvailableEmployeesExcludesAssigned() {
+        User alice = employee("Alice");
+        employee("Bob");
+        employee("Chloe");
+        storeService.addEmployeeToStore(alice.getId(), store.getId());
+
+        Page<UserSummary> page = storeService.findAvailableEmployees(store.getId(), null, null, 50);
+        assertEquals(List.of("Admin", "Bob", "Chloe"), pseudos(page));
+
+        Store other = daoFactory.getStoreDAO().create(new Store("Autre"));
+        assertTrue(pseudos(storeService.findAvailableEmployees(other.getId(), null, null, 50)).contains("Alice"));
+    }
+
+    @Test
+    @DisplayName("La recherche porte sur le début du pseudo ou de l'email")
+    void testAvailableEmployeesSearch() {
+        employee("Bob");
+        employee("Bernard");
+        daoFactory.getUserDAO().create(new User("bea@test.com", "Zoe", "hash", Role.EMPLOYEE));
+
+        assertEquals(List.of("Bernard", "Bob", "Zoe"), pseudos(storeService.findAvailableEmployees(store.getId(), "B", null, 50)));
+        assertEquals(List.of("Bob"), pseudos(storeService.findAvailableEmployees(store.getId(), " bo", null, 50)));
+        assertEquals(List.of("Zoe"), pseudos(storeService.findAvailableEmployees(store.getId(), "bea@", null, 50)));
+    }
+
+    @Test
+    @DisplayName("Les résultats sont paginés et réservés aux administrateurs")
+    void testAvailableEmployeesPaging() {
+        for (int i = 0; i < 7; i++) {
+            employee("Employe" + i);
+        }
+        List<String> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            Page<UserSummary> page = storeService.findAvailableEmployees(store.getId(), "employe", cursor, 3);
+            assertTrue(page.getItems().size() <= 3);
+            all.addAll(pseudos(page));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(7, all.size());
+        assertEquals(all.stream().sorted().toList(), all);
+
+        SessionManager.setCurrentUser(employee("Curieux"));
+        assertTrue(storeService.findAvailableEmployees(store.getId(), null, null, 50).getItems().isEmpty());
+    }
+}
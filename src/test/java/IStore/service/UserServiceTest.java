@@ -0,0 +1,92 @@
+package IStore.service;
+
+import IStore.dao.DAOFactory;
+import IStore.dao.memory.InMemoryDAOFactory;
+import IStore.model.Role;
+import IStore.model.User;
+import IStore.model.UserSummary;
+import IStore.util.PasswordUtil;
+import IStore.util.SessionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du service des utilisateurs sur le moteur de stockage en mémoire.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class UserServiceTest {
+
+    private DAOFactory daoFactory;
+    private UserService userService;
+    private User admin;
+    private User employee;
+
+    @BeforeEach
+    void setUp() {
+        daoFactory = new InMemoryDAOFactory();
+        userService = new UserService(daoFactory);
+        admin = daoFactory.getUserDAO().create(new User("admin@test.com", "Admin", "hash-admin", Role.ADMIN));
+        employee = daoFactory.getUserDAO().create(new User("employe@test.com", "Employe", "hash-employe", Role.EMPLOYEE));
+        SessionManager.setCurrentUser(admin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SessionManager.logout();
+    }
+
+    private String storedHash(int userId) {
+        return daoFactory.getUserDAO().findById(userId).orElseThrow().getPassword();
+    }
+
+    @Test
+    @DisplayName("Les listes d'utilisateurs sont des projections sans mot de passe")
+    void testSummaries() {
+        assertEquals(List.of(UserSummary.of(admin), UserSummary.of(employee)), userService.getAllUsers());
+        assertEquals(List.of(UserSummary.of(admin)), userService.getUsers(null, 1).getItems());
+        assertEquals("Employe", userService.getUserById(employee.getId()).getPseudo());
+        assertNull(userService.getUserById(9999));
+    }
+
+    @Test
+    @DisplayName("Modifier le profil ne réécrit pas le mot de passe")
+    void testUpdateProfileKeepsPassword() {
+        assertTrue(userService.updateUser(employee.getId(), "Nouveau", "Nouveau@Test.com", "").isSuccess());
+
+        UserSummary updated = userService.getUserById(employee.getId());
+        assertEquals("Nouveau", updated.getPseudo());
+        assertEquals("nouveau@test.com", updated.getEmail());
+        assertEquals("hash-employe", storedHash(employee.getId()));
+
+        assertFalse(userService.updateUser(employee.getId(), "Nouveau", "admin@test.com", "").isSuccess());
+        assertFalse(userService.updateUser(9999, "Nouveau", "autre@test.com", "").isSuccess());
+    }
+
+    @Test
+    @DisplayName("Un nouveau mot de passe est haché et la session ne garde pas de hash")
+    void testUpdatePassword() {
+        SessionManager.setCurrentUser(employee);
+        assertTrue(userService.updateUser(employee.getId(), "Employe", "employe@test.com", "NouveauMdp123!").isSuccess());
+
+        assertTrue(PasswordUtil.verifyPassword("NouveauMdp123!", storedHash(employee.getId())));
+        assertNull(SessionManager.getCurrentUser().getPassword());
+        assertEquals(Role.EMPLOYEE, SessionManager.getCurrentUser().getRole());
+    }
+
+    @Test
+    @DisplayName("Le changement de rôle ne touche que le rôle")
+    void testUpdateRole() {
+        assertTrue(userService.updateUserRole(employee.getId(), Role.ADMIN).isSuccess());
+        assertTrue(userService.getUserById(employee.getId()).isAdmin());
+        assertEquals("hash-employe", storedHash(employee.getId()));
+        assertFalse(userService.updateUserRole(admin.getId(), Role.EMPLOYEE).isSuccess());
+    }
+}
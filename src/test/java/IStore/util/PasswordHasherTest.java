@@ -0,0 +1,56 @@
+package IStore.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests du pool de hachage bcrypt.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class PasswordHasherTest {
+
+    @Test
+    @DisplayName("Hachage et vérification passent par le pool")
+    void testHashAndVerify() {
+        PasswordHasher hasher = new PasswordHasher(2, 4);
+
+        String hash = PasswordHasher.await(hasher.hash("password123"));
+
+        assertTrue(PasswordHasher.await(hasher.verify("password123", hash)));
+        assertFalse(PasswordHasher.await(hasher.verify("mauvais", hash)));
+        assertFalse(PasswordHasher.await(hasher.verify("password123", "pas un hash")));
+
+        PasswordHasher.Stats stats = hasher.getStats();
+        assertEquals(4, stats.getCompletedCount());
+        assertEquals(0, stats.getRejectedCount());
+        assertTrue(stats.getMaxHashNanos() > 0);
+        assertTrue(stats.getAverageHashMillis() > 0);
+    }
+
+    @Test
+    @DisplayName("Au-delà de la file, les demandes sont refusées")
+    void testQueueIsBounded() {
+        PasswordHasher hasher = new PasswordHasher(1, 1);
+
+        CompletableFuture<String> running = hasher.hash("premier1");
+        CompletableFuture<String> queued = hasher.hash("deuxieme");
+        CompletableFuture<String> rejected = hasher.hash("troisieme");
+
+        assertThrows(RejectedExecutionException.class, () -> PasswordHasher.await(rejected));
+        assertEquals(1, hasher.getStats().getRejectedCount());
+
+        assertNotNull(PasswordHasher.await(running));
+        assertNotNull(PasswordHasher.await(queued));
+        PasswordHasher.Stats stats = hasher.getStats();
+        assertEquals(2, stats.getCompletedCount());
+        assertEquals(0, stats.getQueueDepth());
+        assertTrue(stats.getTotalWaitNanos() > 0, "La demande en file a attendu le premier hachage");
+    }
+}
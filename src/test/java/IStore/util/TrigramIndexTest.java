@@ -0,0 +1,77 @@
+package IStore.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitaires pour l'index de trigrammes des noms.
+ *
+ * @author IStore Team
+ * @version 1.0
+ */
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.put(1, "Stylo bleu");
+        index.put(2, "Stylo rouge");
+        index.put(3, "Cahier grands carreaux");
+        index.put(4, "Classeur bleu");
+        index.put(5, "Café moulu");
+    }
+
+    @Test
+    @DisplayName("Les noms commençant par le texte passent avant ceux qui le contiennent")
+    void testPrefixBeforeSubstring() {
+        index.put(6, "Bleu de travail");
+        assertArrayEquals(new int[] {6, 1, 4}, index.search("bleu", 10));
+        assertArrayEquals(new int[] {1, 2}, index.search("STYLO", 10));
+    }
+
+    @Test
+    @DisplayName("Recherche insensible à la casse et aux accents, avec fautes de frappe")
+    void testNormalizationAndFuzzy() {
+        assertArrayEquals(new int[] {5}, index.search("cafe", 10));
+        assertArrayEquals(new int[] {3}, index.search("cahierr", 10));
+        assertArrayEquals(new int[] {2}, index.search("stylo rouje", 10));
+    }
+
+    @Test
+    @DisplayName("Un texte court est cherché comme sous-chaîne")
+    void testShortQuery() {
+        assertArrayEquals(new int[] {5, 3}, index.search("ca", 10));
+        assertArrayEquals(new int[0], index.search(" ", 10));
+    }
+
+    @Test
+    @DisplayName("Les mises à jour et suppressions sont prises en compte")
+    void testUpdateAndRemove() {
+        index.put(2, "Feutre rouge");
+        assertArrayEquals(new int[] {1}, index.search("stylo", 10));
+        assertArrayEquals(new int[] {2}, index.search("feutre", 10));
+
+        assertTrue(index.remove(1));
+        assertFalse(index.remove(1));
+        assertArrayEquals(new int[0], index.search("stylo", 10));
+        assertEquals(4, index.size());
+
+        index.put(7, "Stylo vert");
+        assertArrayEquals(new int[] {7}, index.search("stylo", 10));
+    }
+
+    @Test
+    @DisplayName("Le nombre de résultats est borné")
+    void testLimit() {
+        for (int i = 10; i < 200; i++) {
+            index.put(i, "Article " + i);
+        }
+        assertEquals(20, index.search("article", 20).length);
+        assertEquals(10, index.search("article", 20)[0]);
+    }
+}